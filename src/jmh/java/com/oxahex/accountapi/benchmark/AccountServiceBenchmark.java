@@ -0,0 +1,57 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.dto.AccountDto;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.repository.AccountRepository;
+import com.oxahex.accountapi.service.AccountService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌 생성(계좌 번호 발급 포함) 처리량
+ * <p> 유저당 계좌 수 제한(10)에 걸리지 않도록 유저를 미리 넉넉히 만들어 두고 돌아가며 사용하고,
+ * iteration 마다 생성된 계좌를 비움.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountServiceBenchmark {
+
+    @Param({"100000"})
+    public int users;
+
+    private AccountService accountService;
+    private AccountRepository accountRepository;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        accountService = app.getBean(AccountService.class);
+        accountRepository = app.getBean(AccountRepository.class);
+        BenchmarkFixtures.createUsers(app, users);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearAccounts() {
+        accountRepository.deleteAllInBatch();
+        sequence.set(0);
+    }
+
+    @Benchmark
+    public AccountDto createAccount(OperationCounters counters) {
+        long userId = BenchmarkFixtures.FIRST_USER_ID + sequence.getAndIncrement() % users;
+        try {
+            AccountDto result = accountService.createAccount(userId, 10_000L);
+            counters.succeeded++;
+            return result;
+        } catch (AccountException e) {
+            counters.failed++;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.AccountApiApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크 fork 하나당 한 번 애플리케이션 컨텍스트(H2 + embedded Redis)를 띄움
+ * <p> 웹 서버는 띄우지 않고, SQL 로그는 측정에 영향을 주므로 끔.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+    // properties() 는 기본값이라 application.yml 에 덮어써지므로 인자로 넘김
+    private static final String[] QUIET_ARGS = {
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.root=WARN"
+    };
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(AccountApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(QUIET_ARGS);
+    }
+
+    /**
+     * 부하 테스트용: 웹 서버까지 임의 포트로 띄움
+     */
+    void startServer(String... args) {
+        context = new SpringApplicationBuilder(AccountApiApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(Stream.concat(Stream.of(QUIET_ARGS), Stream.concat(Stream.of("--server.port=0"), Stream.of(args)))
+                        .toArray(String[]::new));
+    }
+
+    int getPort() {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
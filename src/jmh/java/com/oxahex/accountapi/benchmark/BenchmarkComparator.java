@@ -0,0 +1,108 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 저장된 baseline 과 이번 결과를 비교해 점수/할당량 변화를 출력
+ * <p> 같은 벤치마크, 같은 @Param, 같은 스레드 수끼리 비교하고,
+ * 점수가 threshold(%) 이상 나빠진 항목이 있으면 0이 아닌 코드로 종료.
+ * <p> thrpt 는 점수가 높을수록, 시간 단위 모드(avgt, sample, ss)는 낮을수록 좋음.
+ */
+public class BenchmarkComparator {
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+    private static final String THROUGHPUT = "thrpt";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparator <baseline.json> <results.json> [threshold%]");
+            System.exit(2);
+        }
+
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.exists()) {
+            System.err.println("No baseline at " + baselineFile + ". Run jmhSaveBaseline first.");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        System.out.printf("%-90s %14s %14s %9s %12s %12s %9s%n",
+                "Benchmark", "Base score", "Current score", "Δ score", "Base B/op", "Current B/op", "Δ B/op");
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s%n", entry.getKey(), "(new)");
+                continue;
+            }
+
+            double baseScore = before.path("primaryMetric").path("score").asDouble();
+            double score = entry.getValue().path("primaryMetric").path("score").asDouble();
+            double baseAlloc = allocation(before);
+            double alloc = allocation(entry.getValue());
+            double scoreDelta = percent(baseScore, score);
+
+            // 시간 단위 모드는 점수가 늘어난 쪽이 느려진 것
+            boolean higherIsBetter = THROUGHPUT.equals(entry.getValue().path("mode").asText(THROUGHPUT));
+            boolean regressed = higherIsBetter ? scoreDelta < -threshold : scoreDelta > threshold;
+            if (regressed) regressions++;
+
+            System.out.printf("%-90s %14.1f %14.1f %8.1f%% %12.1f %12.1f %8.1f%%%s%n",
+                    entry.getKey(), baseScore, score, scoreDelta,
+                    baseAlloc, alloc, percent(baseAlloc, alloc),
+                    regressed ? "  <-- regression" : "");
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 벤치마크 이름 + @Param + 스레드 수를 키로 결과를 정리
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.oxahex.accountapi.benchmark.", ""));
+
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            key.append(" t=").append(result.path("threads").asInt());
+
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+
+    private static double allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOC_RATE_NORM)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double percent(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
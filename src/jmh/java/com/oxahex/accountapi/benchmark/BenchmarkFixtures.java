@@ -0,0 +1,62 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.service.AccountService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 유저/계좌 데이터 생성
+ */
+final class BenchmarkFixtures {
+    static final int ACCOUNTS_PER_USER = 10;
+    static final long INITIAL_BALANCE = 1_000_000_000_000L;
+
+    // local 프로필 seed(db/seed)의 유저(1~3)와 account_user_seq 가 쓰는 범위를 피해서 유저를 넣음
+    static final long FIRST_USER_ID = 1_000_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * FIRST_USER_ID 부터 유저를 한 번에 insert
+     */
+    static void createUsers(ApplicationState app, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{FIRST_USER_ID + i, "bench-" + i});
+        }
+        app.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into account_user(id, name, created_at, updated_at) values (?, ?, now(), now())",
+                rows
+        );
+    }
+
+    /**
+     * 유저당 최대 계좌 수(10)를 넘지 않도록 유저를 나눠서 계좌를 생성
+     */
+    static BenchmarkAccount[] createAccounts(ApplicationState app, int count) {
+        AccountService accountService = app.getBean(AccountService.class);
+        createUsers(app, (count + ACCOUNTS_PER_USER - 1) / ACCOUNTS_PER_USER);
+
+        BenchmarkAccount[] accounts = new BenchmarkAccount[count];
+        for (int i = 0; i < count; i++) {
+            Long userId = FIRST_USER_ID + i / ACCOUNTS_PER_USER;
+            accounts[i] = new BenchmarkAccount(
+                    userId,
+                    accountService.createAccount(userId, INITIAL_BALANCE).getAccountNumber()
+            );
+        }
+        return accounts;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class BenchmarkAccount {
+        private final Long userId;
+        private final String accountNumber;
+    }
+}
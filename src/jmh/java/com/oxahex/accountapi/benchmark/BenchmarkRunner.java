@@ -0,0 +1,91 @@
+package com.oxahex.accountapi.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스레드 수별로 벤치마크를 돌리고 결과를 하나의 JSON 파일로 저장
+ * <p> GC 프로파일러를 항상 붙여 처리량과 함께 할당량(gc.alloc.rate.norm)도 기록.
+ * <pre>
+ * --include  실행할 벤치마크 정규식 (기본값: 전체, 단 --exclude 를 주지 않으면 LookupIndexBenchmark 는 뺌)
+ * --exclude  뺄 벤치마크 정규식
+ * --threads  쉼표로 구분한 스레드 수 목록 (기본값: 1,4,16)
+ * --params   name=v1,v2;name=v1 형식의 @Param 덮어쓰기
+ * --jvm-args fork JVM 에 추가할 인자(공백 구분), 예: -Daccount.concurrency.mode=atomic
+ *            @Fork(jvmArgsAppend) 를 덮어쓰지 않도록 jvmArgsPrepend 로 넘김(둘 다 적용됨)
+ * --output   결과 JSON 경로
+ * </pre>
+ */
+public class BenchmarkRunner {
+    // 10M 건, 8GB 힙이 필요해 전체 실행에서는 빼고 -Pjmh.include=LookupIndexBenchmark 로만 실행
+    private static final String HEAVY_BENCHMARKS = "LookupIndexBenchmark";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = ".*";
+        String exclude = null;
+        String threads = "1,4,16";
+        String params = null;
+        String jvmArgs = null;
+        String output = "build/reports/jmh/results.json";
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--include" -> include = args[i + 1];
+                case "--exclude" -> exclude = args[i + 1];
+                case "--threads" -> threads = args[i + 1];
+                case "--params" -> params = args[i + 1];
+                case "--jvm-args" -> jvmArgs = args[i + 1];
+                case "--output" -> output = args[i + 1];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (exclude == null && ".*".equals(include)) {
+            exclude = HEAVY_BENCHMARKS;
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (String thread : threads.split(",")) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .include(include)
+                    .threads(Integer.parseInt(thread.trim()))
+                    .addProfiler(GCProfiler.class)
+                    .shouldFailOnError(true);
+
+            if (exclude != null && !exclude.isBlank()) {
+                options.exclude(exclude);
+            }
+
+            // 옵션의 jvmArgsAppend 는 @Fork(jvmArgsAppend) 를 대체하므로 prepend 로 합침
+            if (jvmArgs != null) {
+                options.jvmArgsPrepend(jvmArgs.trim().split("\\s+"));
+            }
+
+            if (params != null) {
+                for (String param : params.split(";")) {
+                    String[] nameAndValues = param.split("=", 2);
+                    options.param(nameAndValues[0].trim(), nameAndValues[1].split(","));
+                }
+            }
+
+            Collection<RunResult> runResults = new Runner(options.build()).run();
+            results.addAll(runResults);
+        }
+
+        File file = new File(output);
+        file.getParentFile().mkdirs();
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, file.getPath()).writeOut(results);
+        System.out.println("Benchmark results: " + file.getAbsolutePath());
+    }
+}
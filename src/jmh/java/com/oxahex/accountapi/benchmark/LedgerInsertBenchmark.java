@@ -0,0 +1,71 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.domain.Account;
+import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.repository.AccountRepository;
+import com.oxahex.accountapi.repository.TransactionRepository;
+import com.oxahex.accountapi.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.oxahex.accountapi.type.TransactionResultType.S;
+import static com.oxahex.accountapi.type.TransactionType.USE;
+
+/**
+ * 거래 내역(Transaction) INSERT 처리량: 1건씩 저장 vs 한 트랜잭션에 ROWS 건 저장(JDBC batch)
+ * <p> 점수는 INSERT 1건 기준. iteration 마다 거래 내역을 비움.
+ * <p> 변경 전(id 마다 시퀀스 조회, batch 없음)과 비교하려면 fork JVM 에 설정을 덮어써서 실행.
+ * <pre>
+ * ./gradlew jmh -Pjmh.include=LedgerInsertBenchmark -Pjmh.threads=1 \
+ *   -Pjmh.jvmArgs='-Dspring.jpa.properties.hibernate.id.optimizer.pooled.preferred=none -Dspring.jpa.properties.hibernate.jdbc.batch_size=1'
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LedgerInsertBenchmark {
+    private static final int ROWS = 100;
+    private static final long AMOUNT = 100L;
+
+    private TransactionService transactionService;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate transactionTemplate;
+    private Account account;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        transactionService = app.getBean(TransactionService.class);
+        transactionRepository = app.getBean(TransactionRepository.class);
+        transactionTemplate = app.getBean(TransactionTemplate.class);
+
+        String accountNumber = BenchmarkFixtures.createAccounts(app, 1)[0].getAccountNumber();
+        account = app.getBean(AccountRepository.class).findByAccountNumber(accountNumber).orElseThrow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTransactions() {
+        transactionRepository.deleteAllInBatch();
+    }
+
+    @Benchmark
+    public Transaction insertOne() {
+        return transactionService.saveAndGetTransaction(USE, S, account, AMOUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Transaction insertBatch() {
+        return transactionTemplate.execute(status -> {
+            Transaction last = null;
+            for (int i = 0; i < ROWS; i++) {
+                last = transactionService.saveAndGetTransaction(USE, S, account, AMOUNT);
+            }
+            return last;
+        });
+    }
+}
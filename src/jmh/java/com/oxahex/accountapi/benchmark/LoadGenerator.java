@@ -0,0 +1,241 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.benchmark.BenchmarkFixtures.BenchmarkAccount;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 목표 요청률(open loop)로 POST /transaction/use, POST /transaction/cancel, GET /account 를 섞어서 보내는 부하 생성기
+ * <p> 로컬에서 웹 서버를 띄우고 계좌를 만든 뒤, 응답을 기다리지 않고 정해진 간격으로 요청을 보냄.
+ * 동시 요청이 max-in-flight 를 넘으면 보내지 않고 dropped 로 셈(클라이언트 포화).
+ * <p> hot-ratio 만큼의 요청은 앞쪽 hot-accounts 개 계좌로 몰아서 Lock 경합을 만듦.
+ * cancel 은 앞서 성공한 use 거래를 취소하고, 취소할 거래가 없으면 use 를 보냄.
+ * <p> 끝나면 요청 종류별 처리량, p50/p99/p999/max 와 결과(errorCode) 분포를 출력.
+ * <pre>
+ * --rate          초당 요청 수 (기본값: 200)
+ * --duration      보내는 시간 (기본값: 30s)
+ * --accounts      대상 계좌 수 (기본값: 1000)
+ * --hot-accounts  경합 계좌 수 (기본값: 10)
+ * --hot-ratio     경합 계좌로 보내는 비율 (기본값: 0.5)
+ * --mix           use,cancel,get 비율 (기본값: 70,20,10)
+ * --max-in-flight 동시 요청 상한 (기본값: 2000)
+ * --fault         account.fault.rules (예: "* db 1ms~5ms"), 주면 지연/오류 주입을 켬
+ * --server-args   ';' 로 구분한 서버 인자 (예: "--account.concurrency.mode=atomic")
+ * </pre>
+ */
+public class LoadGenerator {
+    private static final Pattern ERROR_CODE = Pattern.compile("\"errorCode\":\"(\\w+)\"");
+    private static final Pattern TRANSACTION_ID = Pattern.compile("\"transactionId\":\"([^\"]+)\"");
+    private static final String[] OPERATIONS = {"use", "cancel", "get"};
+
+    public static void main(String[] args) throws Exception {
+        int rate = 200;
+        Duration duration = Duration.ofSeconds(30);
+        int accounts = 1000;
+        int hotAccounts = 10;
+        double hotRatio = 0.5;
+        int[] mix = {70, 20, 10};
+        int maxInFlight = 2000;
+        List<String> serverArgs = new ArrayList<>();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--rate" -> rate = Integer.parseInt(args[i + 1]);
+                case "--duration" -> duration = DurationStyle.detectAndParse(args[i + 1]);
+                case "--accounts" -> accounts = Integer.parseInt(args[i + 1]);
+                case "--hot-accounts" -> hotAccounts = Integer.parseInt(args[i + 1]);
+                case "--hot-ratio" -> hotRatio = Double.parseDouble(args[i + 1]);
+                case "--mix" -> mix = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(args[i + 1]);
+                case "--fault" -> {
+                    if (!args[i + 1].isBlank()) {
+                        serverArgs.add("--account.fault.enabled=true");
+                        serverArgs.add("--account.fault.rules=" + args[i + 1]);
+                    }
+                }
+                case "--server-args" -> Arrays.stream(args[i + 1].split(";"))
+                        .filter(arg -> !arg.isBlank())
+                        .forEach(serverArgs::add);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (mix.length != OPERATIONS.length) {
+            throw new IllegalArgumentException("--mix needs use,cancel,get ratios");
+        }
+
+        ApplicationState app = new ApplicationState();
+        app.startServer(serverArgs.toArray(String[]::new));
+        try {
+            BenchmarkAccount[] targets = BenchmarkFixtures.createAccounts(app, accounts);
+            int hot = Math.max(1, Math.min(hotAccounts, accounts));
+            new LoadGenerator("http://localhost:" + app.getPort(), targets, hot, hotRatio, mix)
+                    .run(rate, duration, maxInFlight);
+        } finally {
+            app.stop();
+        }
+    }
+
+    private final String baseUrl;
+    private final BenchmarkAccount[] targets;
+    private final int hotAccounts;
+    private final double hotRatio;
+    private final int[] mix;
+
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> results = new ConcurrentSkipListMap<>();
+    private final Queue<String[]> cancelable = new ConcurrentLinkedQueue<>();    // {transactionId, accountNumber}
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    private LoadGenerator(String baseUrl, BenchmarkAccount[] targets, int hotAccounts, double hotRatio, int[] mix) {
+        this.baseUrl = baseUrl;
+        this.targets = targets;
+        this.hotAccounts = hotAccounts;
+        this.hotRatio = hotRatio;
+        this.mix = mix;
+        for (String operation : OPERATIONS) {
+            latencies.put(operation, Collections.synchronizedList(new ArrayList<>()));
+        }
+    }
+
+    private void run(int rate, Duration duration, int maxInFlight) throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newCachedThreadPool();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Phaser pending = new Phaser(1);
+        int total = Arrays.stream(mix).sum();
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        int sent = 0;
+        for (long next = start; next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                continue;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            BenchmarkAccount target = random.nextDouble() < hotRatio
+                    ? targets[random.nextInt(hotAccounts)]
+                    : targets[random.nextInt(targets.length)];
+            int pick = random.nextInt(total);
+            String operation = pick < mix[0] ? "use" : pick < mix[0] + mix[1] ? "cancel" : "get";
+            String[] canceled = "cancel".equals(operation) ? cancelable.poll() : null;
+            if ("cancel".equals(operation) && canceled == null) {
+                operation = "use";
+            }
+
+            // 보내기로 한 시각부터 재서 서버가 밀려 늦게 보낸 시간도 응답 시간에 포함(coordinated omission)
+            String op = operation;
+            long scheduled = next;
+            pending.register();
+            client.sendAsync(request(op, target, canceled), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, e) -> {
+                        latencies.get(op).add(System.nanoTime() - scheduled);
+                        record(op, target, response, e);
+                        inFlight.release();
+                        pending.arriveAndDeregister();
+                    });
+            sent++;
+        }
+        long sendWall = System.nanoTime() - start;
+        pending.arriveAndAwaitAdvance();
+        long wall = System.nanoTime() - start;
+        clientExecutor.shutdownNow();
+
+        report(rate, sent, sendWall, wall);
+    }
+
+    private HttpRequest request(String operation, BenchmarkAccount target, String[] canceled) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofMinutes(1));
+        return switch (operation) {
+            case "use" -> builder.uri(URI.create(baseUrl + "/transaction/use"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                            "{\"userId\":%d,\"accountNumber\":\"%s\",\"amount\":1}",
+                            target.getUserId(), target.getAccountNumber())))
+                    .build();
+            case "cancel" -> builder.uri(URI.create(baseUrl + "/transaction/cancel"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                            "{\"transactionId\":\"%s\",\"accountNumber\":\"%s\",\"amount\":1}",
+                            canceled[0], canceled[1])))
+                    .build();
+            default -> builder.uri(URI.create(baseUrl + "/account?user_id=" + target.getUserId()))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private void record(String operation, BenchmarkAccount target, HttpResponse<String> response, Throwable e) {
+        String result;
+        if (e != null) {
+            result = "IO_ERROR";
+        } else if (response.statusCode() != 200) {
+            result = "HTTP_" + response.statusCode();
+        } else {
+            Matcher errorCode = ERROR_CODE.matcher(response.body());
+            result = errorCode.find() ? errorCode.group(1) : "OK";
+        }
+        results.computeIfAbsent(operation + " " + result, key -> new AtomicInteger()).incrementAndGet();
+
+        if ("use".equals(operation) && "OK".equals(result)) {
+            Matcher transactionId = TRANSACTION_ID.matcher(response.body());
+            if (transactionId.find()) {
+                cancelable.add(new String[]{transactionId.group(1), target.getAccountNumber()});
+            }
+        }
+    }
+
+    private void report(int rate, int sent, long sendWall, long wall) {
+        System.out.printf("Target %d req/s, sent %d in %.1f s (%.0f req/s), dropped %d, drained in %.1f s%n",
+                rate, sent, sendWall / 1e9, sent / (sendWall / 1e9), dropped.get(), wall / 1e9);
+
+        System.out.printf("%-8s %9s %10s %10s %10s %10s %10s%n",
+                "Request", "Count", "req/s", "p50 ms", "p99 ms", "p999 ms", "Max ms");
+        for (String operation : OPERATIONS) {
+            long[] sorted;
+            synchronized (latencies.get(operation)) {
+                sorted = latencies.get(operation).stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            if (sorted.length == 0) {
+                continue;
+            }
+            System.out.printf("%-8s %9d %10.0f %10.1f %10.1f %10.1f %10.1f%n",
+                    operation, sorted.length, sorted.length / (wall / 1e9),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                    millis(percentile(sorted, 99.9)), millis(sorted[sorted.length - 1]));
+        }
+
+        System.out.printf("%n%-30s %9s%n", "Result", "Count");
+        results.forEach((result, count) -> System.out.printf("%-30s %9d%n", result, count.get()));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,62 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.service.AccountLockProvider;
+import com.oxahex.accountapi.service.LocalLockService;
+import com.oxahex.accountapi.service.LockService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock 취득/해제 비용: embedded Redis(Redisson) vs JVM 내부 striped Lock
+ * <p> accounts=1 이면 모든 스레드가 같은 Lock Key 를 두고 경쟁함.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LockServiceBenchmark {
+
+    @Param({"1", "1000"})
+    public int accounts;
+
+    @Param({"redis", "local"})
+    public String provider;
+
+    private AccountLockProvider lockService;
+    private String[] accountNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        lockService = "local".equals(provider)
+                ? new LocalLockService(1024)
+                : app.getBean(LockService.class);
+
+        // Lock 은 계좌 존재 여부와 무관하므로 번호만 만들어 사용
+        accountNumbers = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = String.valueOf(1_000_000_000L + i);
+        }
+    }
+
+    @Benchmark
+    public void lockAndUnlock(OperationCounters counters) {
+        String accountNumber = accountNumbers[ThreadLocalRandom.current().nextInt(accounts)];
+        try {
+            lockService.lock(accountNumber);
+        } catch (AccountException e) {
+            counters.failed++;
+            return;
+        }
+
+        try {
+            counters.succeeded++;
+        } finally {
+            lockService.unlock(accountNumber);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.oxahex.accountapi.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findByAccountNumber / findByTransactionId 조회 지연 시간: 인덱스 유무 x 데이터 건수
+ * <p> 스프링 컨텍스트 없이 별도 H2 메모리 DB 에 V1__init.sql 과 같은 컬럼 구성으로 테이블을 만들고,
+ * indexed=false 일 때는 unique/복합 인덱스를 만들지 않음(PK 만 존재).
+ * <p> 10M 은 메모리를 많이 쓰므로 fork 힙을 늘려 둠. 그래서 전체 실행(-Pjmh.include 생략)에서는 빠지고,
+ * 아래처럼 직접 지정해야 실행됨.
+ * <pre>
+ * ./gradlew jmh -Pjmh.include=LookupIndexBenchmark -Pjmh.threads=1
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class LookupIndexBenchmark {
+    private static final long FIRST_ACCOUNT_NUMBER = 1_000_000_000L;
+
+    @Param({"1000000", "10000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private Connection setupConnection;
+    private final ThreadLocal<Connection> connections = new ThreadLocal<>();
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url = "jdbc:h2:mem:lookup-" + rows + "-" + indexed + ";DB_CLOSE_DELAY=-1";
+        setupConnection = DriverManager.getConnection(url, "sa", "");
+
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("""
+                    create table account (
+                        id bigint primary key, account_user_id bigint, account_number varchar(10) not null,
+                        account_status varchar(255), balance bigint)""");
+            statement.execute("""
+                    create table transaction (
+                        id bigint primary key, account_id bigint, transaction_id varchar(32) not null,
+                        transaction_type varchar(255), transaction_result_type varchar(255),
+                        amount bigint, balance_snap_shot bigint, transacted_at timestamp(6))""");
+
+            statement.execute("insert into account select x, x / 10, cast(" + FIRST_ACCOUNT_NUMBER
+                    + " + x as varchar), 'IN_USE', 10000 from system_range(1, " + rows + ")");
+            statement.execute("insert into transaction select x, mod(x, " + rows + ") + 1, "
+                    + "lpad(to_char(x, 'FMXXXXXXXXXXXXXXXX'), 32, '0'), 'USE', 'S', 100, 9900, "
+                    + "dateadd(second, x, timestamp '2023-01-01 00:00:00') from system_range(1, " + rows + ")");
+
+            if (indexed) {
+                statement.execute("create unique index uk_account_account_number on account (account_number)");
+                statement.execute("create index idx_account_account_user_id on account (account_user_id)");
+                statement.execute("create unique index uk_transaction_transaction_id on transaction (transaction_id)");
+                statement.execute("create index idx_transaction_account_id_transacted_at on transaction (account_id, transacted_at)");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = setupConnection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    @Benchmark
+    public void findByAccountNumber(Blackhole blackhole) throws SQLException {
+        long accountNumber = FIRST_ACCOUNT_NUMBER + 1 + ThreadLocalRandom.current().nextInt(rows);
+        try (PreparedStatement statement = connection().prepareStatement(
+                "select * from account where account_number = ?")) {
+            statement.setString(1, Long.toString(accountNumber));
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void findByTransactionId(Blackhole blackhole) throws SQLException {
+        long id = 1 + ThreadLocalRandom.current().nextInt(rows);
+        try (PreparedStatement statement = connection().prepareStatement(
+                "select * from transaction where transaction_id = ?")) {
+            statement.setString(1, String.format("%032X", id));
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void findRecentTransactionsByAccount(Blackhole blackhole) throws SQLException {
+        long accountId = 1 + ThreadLocalRandom.current().nextInt(rows);
+        try (PreparedStatement statement = connection().prepareStatement(
+                "select * from transaction where account_id = ? order by transacted_at desc limit 20")) {
+            statement.setLong(1, accountId);
+            consume(statement, blackhole);
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        Connection connection = connections.get();
+        if (connection == null) {
+            connection = DriverManager.getConnection(url, "sa", "");
+            connections.set(connection);
+        }
+        return connection;
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.oxahex.accountapi.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 성공/실패(잔액 부족, Lock 획득 실패 등) 건수를 결과에 함께 기록
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class OperationCounters {
+    public long succeeded;
+    public long failed;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        succeeded = 0;
+        failed = 0;
+    }
+}
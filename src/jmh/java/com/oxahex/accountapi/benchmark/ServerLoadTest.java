@@ -0,0 +1,157 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.benchmark.BenchmarkFixtures.BenchmarkAccount;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * POST /transaction/use 부하 테스트: 플랫폼 스레드(Tomcat 풀) vs 가상 스레드(account.server.virtual-threads)
+ * <p> 모드마다 웹 서버를 띄우고 concurrency 개의 요청을 동시에 유지하면서 requests 개를 보냄.
+ * 서버가 동시에 처리 중인 요청 수(http.server.requests.active)의 최댓값과 응답 시간 분포를 출력.
+ * <p> 계좌는 accounts 개에 고르게 나눠서 Lock 경합보다 스레드 점유(Lock 대기, I/O, 지연)가 드러나도록 함.
+ * 지연은 account.fault 로 Lock 안에서 delay 만큼 주입.
+ * virtual 모드는 Java 21 이상에서만 동작.
+ * <pre>
+ * --requests    보낼 요청 수 (기본값: 2000)
+ * --concurrency 동시에 보내는 요청 수 (기본값: 1000)
+ * --accounts    대상 계좌 수 (기본값: 1000)
+ * --modes       쉼표로 구분한 모드 (기본값: platform,virtual)
+ * --delay       요청마다 Lock 안에서 주입할 지연 (기본값: 5s)
+ * </pre>
+ */
+public class ServerLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int requests = 2000;
+        int concurrency = 1000;
+        int accounts = 1000;
+        String modes = "platform,virtual";
+        String delay = "5s";
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--requests" -> requests = Integer.parseInt(args[i + 1]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+                case "--accounts" -> accounts = Integer.parseInt(args[i + 1]);
+                case "--modes" -> modes = args[i + 1];
+                case "--delay" -> delay = args[i + 1];
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.printf("%-10s %9s %9s %9s %13s %10s %10s %10s %10s%n",
+                "Mode", "Requests", "Failed", "Errors", "Max in-flight", "p50 ms", "p99 ms", "Max ms", "Wall s");
+        for (String mode : modes.split(",")) {
+            run(mode.trim(), requests, concurrency, accounts, delay);
+        }
+    }
+
+    private static void run(String mode, int requests, int concurrency, int accounts, String delay) throws Exception {
+        ApplicationState app = new ApplicationState();
+        app.startServer(
+                "--account.server.virtual-threads=" + "virtual".equals(mode),
+                "--account.fault.enabled=true",
+                "--account.fault.rules=POST /transaction/use inside-lock " + delay);
+        try {
+            BenchmarkAccount[] targets = BenchmarkFixtures.createAccounts(app, accounts);
+            URI uri = URI.create("http://localhost:" + app.getPort() + "/transaction/use");
+            InFlightSampler sampler = new InFlightSampler(app.getBean(MeterRegistry.class));
+
+            // 클라이언트 쪽 스레드 수가 결과를 제한하지 않도록 응답 처리는 넉넉한 풀에서
+            ExecutorService clientExecutor = Executors.newCachedThreadPool();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            Semaphore permits = new Semaphore(concurrency);
+            CountDownLatch done = new CountDownLatch(requests);
+            long[] latencies = new long[requests];
+            AtomicInteger failed = new AtomicInteger();     // 200 이지만 errorCode 가 있는 응답(Lock 획득 실패 등)
+            AtomicInteger errors = new AtomicInteger();     // 연결 오류, 타임아웃
+
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                BenchmarkAccount target = targets[i % targets.length];
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofMinutes(5))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                                "{\"userId\":%d,\"accountNumber\":\"%s\",\"amount\":1}",
+                                target.getUserId(), target.getAccountNumber())))
+                        .build();
+
+                permits.acquire();
+                int index = i;
+                long sent = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, e) -> {
+                            latencies[index] = System.nanoTime() - sent;
+                            if (e != null) {
+                                errors.incrementAndGet();
+                            } else if (response.statusCode() != 200 || response.body().contains("errorCode")) {
+                                failed.incrementAndGet();
+                            }
+                            permits.release();
+                            done.countDown();
+                        });
+            }
+            done.await();
+            long wall = System.nanoTime() - start;
+            sampler.stop();
+            clientExecutor.shutdownNow();
+
+            Arrays.sort(latencies);
+            System.out.printf("%-10s %9d %9d %9d %13d %10d %10d %10d %10.1f%n",
+                    mode, requests, failed.get(), errors.get(), sampler.getMax(),
+                    millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+                    millis(latencies[latencies.length - 1]), wall / 1e9);
+        } finally {
+            app.stop();
+        }
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * 서버가 처리 중인 요청 수를 10ms 마다 읽어서 최댓값을 기록
+     */
+    private static class InFlightSampler {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private volatile int max;
+
+        InFlightSampler(MeterRegistry meterRegistry) {
+            scheduler.scheduleAtFixedRate(() -> {
+                LongTaskTimer active = meterRegistry.find("http.server.requests.active").longTaskTimer();
+                if (active != null && active.activeTasks() > max) {
+                    max = active.activeTasks();
+                }
+            }, 0, 10, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() {
+            scheduler.shutdownNow();
+        }
+
+        int getMax() {
+            return max;
+        }
+    }
+}
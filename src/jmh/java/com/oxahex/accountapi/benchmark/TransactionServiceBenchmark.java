@@ -0,0 +1,189 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.benchmark.BenchmarkFixtures.BenchmarkAccount;
+import com.oxahex.accountapi.dto.FailedTransaction;
+import com.oxahex.accountapi.dto.TransactionDto;
+import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.dto.UseBalanceBatch;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.service.AccountLockProvider;
+import com.oxahex.accountapi.service.FailedTransactionRecorder;
+import com.oxahex.accountapi.service.TransactionService;
+import com.oxahex.accountapi.type.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 사용/취소 처리량
+ * <p> accounts=1 은 한 계좌에 요청이 몰리는 경우, accounts=1000 은 요청이 여러 계좌로 분산되는 경우.
+ * <p> useBalanceLocked 는 @AccountLock 과 같은 순서(lock -> useBalance -> unlock)로 Lock 비용까지 포함해 측정.
+ * <p> useBalanceBatchLocked 는 배치 API 와 같은 순서(lockAll -> useBalanceBatch -> unlockAll), 점수는 항목 1건 기준.
+ * <p> overdraftRecorded* 는 잔액 초과 요청이 반복되는 경우, Lock 을 잡은 채로 실패 거래를 저장(Sync)하는지 큐에 넣는지(Async) 비교.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionServiceBenchmark {
+    private static final long AMOUNT = 100L;
+    private static final int BATCH_ITEMS = 1000;
+    private static final long OVERDRAFT_AMOUNT = BenchmarkFixtures.INITIAL_BALANCE * 2;
+
+    @Param({"1", "1000"})
+    public int accounts;
+
+    private TransactionService transactionService;
+    private AccountLockProvider lockService;
+    private FailedTransactionRecorder failedTransactionRecorder;
+
+    private BenchmarkAccount[] benchmarkAccounts;
+    private String[] transactionIds;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        transactionService = app.getBean(TransactionService.class);
+        lockService = app.getBean(AccountLockProvider.class);
+        failedTransactionRecorder = app.getBean(FailedTransactionRecorder.class);
+
+        benchmarkAccounts = BenchmarkFixtures.createAccounts(app, accounts);
+
+        // 취소 대상 거래: 계좌마다 하나씩 만들어 두고 반복해서 취소
+        transactionIds = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            transactionIds[i] = transactionService.useBalance(
+                    benchmarkAccounts[i].getUserId(),
+                    benchmarkAccounts[i].getAccountNumber(),
+                    AMOUNT
+            ).getTransactionId();
+        }
+    }
+
+    @Benchmark
+    public TransactionDto useBalance(OperationCounters counters) {
+        BenchmarkAccount account = pick();
+        try {
+            TransactionDto result = transactionService.useBalance(
+                    account.getUserId(), account.getAccountNumber(), AMOUNT);
+            counters.succeeded++;
+            return result;
+        } catch (AccountException | ConcurrencyFailureException e) {
+            counters.failed++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public TransactionDto useBalanceLocked(OperationCounters counters) {
+        BenchmarkAccount account = pick();
+        try {
+            lockService.lock(account.getAccountNumber());
+        } catch (AccountException e) {
+            counters.failed++;
+            return null;
+        }
+
+        try {
+            TransactionDto result = transactionService.useBalance(
+                    account.getUserId(), account.getAccountNumber(), AMOUNT);
+            counters.succeeded++;
+            return result;
+        } catch (AccountException | ConcurrencyFailureException e) {
+            counters.failed++;
+            return null;
+        } finally {
+            lockService.unlock(account.getAccountNumber());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ITEMS)
+    public List<TransactionDto> useBalanceBatchLocked(OperationCounters counters) {
+        List<UseBalance.Request> items = new ArrayList<>(BATCH_ITEMS);
+        for (int i = 0; i < BATCH_ITEMS; i++) {
+            BenchmarkAccount account = pick();
+            items.add(new UseBalance.Request(account.getUserId(), account.getAccountNumber(), AMOUNT));
+        }
+        Set<String> accountNumbers = new UseBalanceBatch.Request(items).getAccountNumbers();
+
+        try {
+            lockService.lockAll(accountNumbers);
+        } catch (AccountException e) {
+            counters.failed += BATCH_ITEMS;
+            return null;
+        }
+
+        try {
+            List<TransactionDto> results = transactionService.useBalanceBatch(items);
+            counters.succeeded += BATCH_ITEMS;
+            return results;
+        } catch (AccountException | ConcurrencyFailureException e) {
+            counters.failed += BATCH_ITEMS;
+            return null;
+        } finally {
+            lockService.unlockAll(accountNumbers);
+        }
+    }
+
+    @Benchmark
+    public void overdraftRecordedSync(OperationCounters counters) {
+        overdraft(counters, false);
+    }
+
+    @Benchmark
+    public void overdraftRecordedAsync(OperationCounters counters) {
+        overdraft(counters, true);
+    }
+
+    private void overdraft(OperationCounters counters, boolean async) {
+        BenchmarkAccount account = pick();
+        try {
+            lockService.lock(account.getAccountNumber());
+        } catch (AccountException e) {
+            counters.failed++;
+            return;
+        }
+
+        try {
+            transactionService.useBalance(account.getUserId(), account.getAccountNumber(), OVERDRAFT_AMOUNT);
+            counters.succeeded++;
+        } catch (AccountException e) {
+            counters.failed++;
+            if (async) {
+                failedTransactionRecorder.recordUse(account.getAccountNumber(), OVERDRAFT_AMOUNT);
+            } else {
+                // recorder 의 writer 가 쓰는 저장 경로를 Lock 을 잡은 채로 바로 호출
+                transactionService.saveFailedTransactions(List.of(new FailedTransaction(
+                        TransactionType.USE, account.getAccountNumber(), OVERDRAFT_AMOUNT, LocalDateTime.now())));
+            }
+        } finally {
+            lockService.unlock(account.getAccountNumber());
+        }
+    }
+
+    @Benchmark
+    public TransactionDto cancelBalance(OperationCounters counters) {
+        int index = ThreadLocalRandom.current().nextInt(accounts);
+        try {
+            TransactionDto result = transactionService.cancelBalance(
+                    transactionIds[index], benchmarkAccounts[index].getAccountNumber(), AMOUNT);
+            counters.succeeded++;
+            return result;
+        } catch (AccountException | ConcurrencyFailureException e) {
+            counters.failed++;
+            return null;
+        }
+    }
+
+    private BenchmarkAccount pick() {
+        return benchmarkAccounts[ThreadLocalRandom.current().nextInt(accounts)];
+    }
+}
@@ -0,0 +1,122 @@
+package com.oxahex.accountapi.benchmark;
+
+import com.oxahex.accountapi.benchmark.BenchmarkFixtures.BenchmarkAccount;
+import com.oxahex.accountapi.controller.TransactionController;
+import com.oxahex.accountapi.dto.Transfer;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 이체 처리량: 스레드 두 개가 한 계좌 쌍을 나눠 갖고 서로 반대 방향(A -> B, B -> A)으로 계속 이체
+ * <p> 컨트롤러 빈을 직접 호출하므로 @AccountLock(두 계좌 lockAll)까지 포함.
+ * 두 계좌 Lock 을 요청 방향대로 잡으면 두 스레드가 교착되어 lockTimeouts 가 쌓임.
+ * 한 쌍을 두 스레드만 쓰므로 Lock 대기는 상대 이체 한 건 정도라 1초 대기(tryLock)를 넘기지 않고,
+ * 계좌 번호 순서로 잡으면 lockTimeouts 는 0 이어야 함.
+ * (모든 스레드가 한 쌍을 두고 경쟁하면 교착이 없어도 줄이 길어져 대기 시간 초과가 나므로 그렇게 두지 않음)
+ * DB 행 Lock 교착이나 낙관적 Lock 충돌은 dbConflicts 로 셈.
+ * <p> 끝나면 대상 계좌 잔액의 합이 처음과 같은지(돈이 새거나 생기지 않음) 확인.
+ * Lock 방식은 -Pjmh.jvmArgs='-Daccount.lock.provider=local' 등으로 바꿈.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransferBenchmark {
+    private static final long AMOUNT = 10L;
+
+    private TransactionController transactionController;
+    private JdbcTemplate jdbcTemplate;
+
+    private BenchmarkAccount[] benchmarkAccounts;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app, BenchmarkParams params) {
+        transactionController = app.getBean(TransactionController.class);
+        jdbcTemplate = app.getBean(JdbcTemplate.class);
+
+        // 2i, 2i + 1 번째 계좌가 한 쌍, 스레드 두 개당 한 쌍
+        int pairs = (params.getThreads() + 1) / 2;
+        benchmarkAccounts = BenchmarkFixtures.createAccounts(app, pairs * 2);
+    }
+
+    @Benchmark
+    public Transfer.Response transferBothWays(TransferRoute route, TransferCounters counters) {
+        BenchmarkAccount from = route.from;
+        BenchmarkAccount to = route.to;
+
+        try {
+            Transfer.Response response = transactionController.transferBalance(new Transfer.Request(
+                    from.getUserId(), from.getAccountNumber(), to.getAccountNumber(), AMOUNT));
+            counters.succeeded++;
+            return response;
+        } catch (AccountException e) {
+            if (e.getErrorCode() == ErrorCode.ACCOUNT_TRANSACTION_LOCK) {
+                counters.lockTimeouts++;
+            } else {
+                counters.failed++;
+            }
+            return null;
+        } catch (ConcurrencyFailureException e) {
+            counters.dbConflicts++;
+            return null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyBalances() {
+        Long total = jdbcTemplate.queryForObject(
+                "select sum(balance) from account where account_user_id >= ?",
+                Long.class, BenchmarkFixtures.FIRST_USER_ID);
+        long expected = BenchmarkFixtures.INITIAL_BALANCE * benchmarkAccounts.length;
+        if (total == null || total != expected) {
+            throw new IllegalStateException("Balance total changed: expected " + expected + ", actual " + total);
+        }
+    }
+
+    /**
+     * 스레드별 이체 방향: 짝수 번째 스레드는 A -> B, 홀수 번째 스레드는 같은 쌍의 B -> A
+     */
+    @State(Scope.Thread)
+    public static class TransferRoute {
+        private BenchmarkAccount from;
+        private BenchmarkAccount to;
+
+        @Setup(Level.Trial)
+        public void setUp(TransferBenchmark benchmark, ThreadParams threadParams) {
+            int thread = threadParams.getThreadIndex();
+            int pair = thread / 2 * 2;
+            boolean reverse = thread % 2 == 1;
+            from = benchmark.benchmarkAccounts[reverse ? pair + 1 : pair];
+            to = benchmark.benchmarkAccounts[reverse ? pair : pair + 1];
+        }
+    }
+
+    /**
+     * OperationCounters 에 Lock 대기 시간 초과와 DB 충돌을 따로 나눠 기록
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TransferCounters {
+        public long succeeded;
+        public long lockTimeouts;
+        public long dbConflicts;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            lockTimeouts = 0;
+            dbConflicts = 0;
+            failed = 0;
+        }
+    }
+}
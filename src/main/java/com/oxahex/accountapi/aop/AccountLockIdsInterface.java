@@ -0,0 +1,10 @@
+package com.oxahex.accountapi.aop;
+
+import java.util.Collection;
+
+/**
+ * 여러 계좌를 한 번에 Lock 하는 요청(배치 등)
+ */
+public interface AccountLockIdsInterface {
+    Collection<String> getAccountNumbers();
+}
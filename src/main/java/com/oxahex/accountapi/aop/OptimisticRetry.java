@@ -0,0 +1,14 @@
+package com.oxahex.accountapi.aop;
+
+import java.lang.annotation.*;
+
+/**
+ * account.concurrency.mode=optimistic 일 때, 버전 충돌(OptimisticLockingFailureException)이 나면
+ * 트랜잭션을 처음부터 다시 실행
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface OptimisticRetry {
+}
@@ -0,0 +1,35 @@
+package com.oxahex.accountapi.config;
+
+import com.oxahex.accountapi.service.AccountNumberAllocator;
+import com.oxahex.accountapi.service.RedisAccountNumberAllocator;
+import com.oxahex.accountapi.service.SequenceAccountNumberAllocator;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * account.number.allocator 값(sequence | redis)에 따라 계좌 번호 발급기를 등록
+ */
+@Configuration
+public class AccountNumberConfiguration {
+    @Value("${account.number.block-size:100}")
+    private int blockSize;
+
+    @Value("${account.number.node-prefix:}")
+    private String nodePrefix;
+
+    @Bean
+    @ConditionalOnProperty(name = "account.number.allocator", havingValue = "sequence", matchIfMissing = true)
+    public AccountNumberAllocator sequenceAccountNumberAllocator(JdbcTemplate jdbcTemplate) {
+        return new SequenceAccountNumberAllocator(jdbcTemplate, blockSize, nodePrefix);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "account.number.allocator", havingValue = "redis")
+    public AccountNumberAllocator redisAccountNumberAllocator(RedissonClient redissonClient) {
+        return new RedisAccountNumberAllocator(redissonClient, blockSize, nodePrefix);
+    }
+}
@@ -0,0 +1,24 @@
+package com.oxahex.accountapi.config;
+
+import com.oxahex.accountapi.controller.StageMetricsFilter;
+import com.oxahex.accountapi.service.StageMetrics;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class StageMetricsConfiguration {
+
+    // API 요청만 측정(actuator, h2-console 제외), 비동기 응답의 버퍼를 내보내도록 ASYNC 디스패치도 거침
+    @Bean
+    public FilterRegistrationBean<StageMetricsFilter> stageMetricsFilter(StageMetrics stageMetrics) {
+        FilterRegistrationBean<StageMetricsFilter> registration =
+                new FilterRegistrationBean<>(new StageMetricsFilter(stageMetrics));
+        registration.addUrlPatterns("/account/*", "/transaction/*", "/user/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
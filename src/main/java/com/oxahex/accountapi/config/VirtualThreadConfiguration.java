@@ -0,0 +1,56 @@
+package com.oxahex.accountapi.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청을 가상 스레드에서 처리(account.server.virtual-threads=true, Java 21 이상)
+ * <p> Tomcat 요청 처리(@AccountLock 포함)와 MVC 비동기 응답(명세서 내보내기)을 요청마다 새 가상 스레드에서 실행.
+ * Lock 대기, Redis/DB I/O 동안 플랫폼 스레드를 붙잡지 않으므로 동시 처리 수가 Tomcat 스레드 수(threads.max)에 묶이지 않음.
+ * <p> Redisson 대기(Semaphore, CompletableFuture), HikariCP(커넥션 풀), LocalLockService 는 j.u.c Lock 기반이라 pinning 이 없음.
+ * JDBC 드라이버(H2)의 커넥션/세션 코드는 synchronized 를 쓰므로 Java 21 에서는 SQL 실행 중 pinning 될 수 있음(확인하지 않음).
+ * 확인은 Java 21 에서 loadTest(-Djdk.tracePinnedThreads=short)로.
+ * <p> 소스 호환성(Java 17)을 유지하려고 Executors.newVirtualThreadPerTaskExecutor 는 리플렉션으로 호출.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "account.server.virtual-threads", havingValue = "true")
+public class VirtualThreadConfiguration {
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // MVC 가 비동기 요청(StreamingResponseBody)에 쓰는 기본 executor 를 대체
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "account.server.virtual-threads requires Java 21 or later (running " + Runtime.version() + ")", e);
+        }
+    }
+}
@@ -9,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -46,11 +45,7 @@ public class AccountController {
     public List<AccountInfo> getAccountsByUserId(
             @RequestParam("user_id") Long userId) {
 
-        // List<AccountDto> 타입을 List<AccountInfo> 타입으로 변환해 반환
-        return accountService.getAccountsByUserId(userId)
-                .stream().map(accountDto -> AccountInfo.builder()
-                        .accountNumber(accountDto.getAccountNumber())
-                        .balance(accountDto.getBalance()).build())
-                .collect(Collectors.toList());
+        // 서비스에서 AccountInfo 로 바로 조회(projection)
+        return accountService.getAccountsByUserId(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.service.LockMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/accountlocks?limit=20: 최근 경합이 많았던 계좌(대기 초과, 거절, lease 만료 순)
+ */
+@Component
+@Endpoint(id = "accountlocks")
+@RequiredArgsConstructor
+public class AccountLockEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public List<LockMetrics.Contention> hotAccounts(@Nullable Integer limit) {
+        return lockMetrics.hotAccounts(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
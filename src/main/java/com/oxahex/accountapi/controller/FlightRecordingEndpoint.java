@@ -0,0 +1,155 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.jfr.AccountLockEvent;
+import com.oxahex.accountapi.jfr.AccountUnlockEvent;
+import com.oxahex.accountapi.jfr.BusinessErrorEvent;
+import com.oxahex.accountapi.jfr.LedgerWriteEvent;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JFR 녹화(profile 설정 + 계좌 Lock, 거래 저장, 오류 이벤트)를 필요할 때만 켬
+ * <p> POST /actuator/flightrecording?seconds=60: 시작(이미 녹화 중이면 그대로), max-duration 이 지나면 저절로 멈춤
+ * <p> DELETE /actuator/flightrecording: 멈추고 파일로 씀, GET 은 상태(파일 경로)
+ * <p> 한 번에 하나만 녹화하고, 디스크 사용량은 max-size 로 제한.
+ * 새로 시작할 때 디렉터리의 녹화 파일이 max-files 개를 넘지 않도록 오래된 것부터 지움.
+ * <p> 파일을 쓰는 엔드포인트라 기본 노출 목록에는 없음(application.yml 참고).
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+    private static final DateTimeFormatter FILE_NAME =
+            DateTimeFormatter.ofPattern("'account-api-'yyyyMMdd-HHmmss'.jfr'");
+    private static final String FILE_GLOB = "account-api-*.jfr";
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final int maxFiles;
+
+    private Recording recording;
+
+    public FlightRecordingEndpoint(
+            @Value("${account.jfr.directory:${java.io.tmpdir}}") Path directory,
+            @Value("${account.jfr.max-duration:10m}") Duration maxDuration,
+            @Value("${account.jfr.max-size:256MB}") DataSize maxSize,
+            @Value("${account.jfr.max-files:5}") int maxFiles
+    ) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.maxFiles = maxFiles;
+    }
+
+    @ReadOperation
+    public synchronized Status status() {
+        if (recording == null) {
+            return new Status(false, null, null);
+        }
+        return new Status(
+                recording.getState() == RecordingState.RUNNING,
+                recording.getStartTime(),
+                recording.getDestination() == null ? null : recording.getDestination().toString()
+        );
+    }
+
+    @WriteOperation
+    public synchronized Status start(@Nullable Long seconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+
+        Duration duration = seconds == null || seconds <= 0 || Duration.ofSeconds(seconds).compareTo(maxDuration) > 0
+                ? maxDuration : Duration.ofSeconds(seconds);
+        try {
+            Files.createDirectories(directory);
+            deleteOldRecordings();
+
+            Recording started = new Recording(Configuration.getConfiguration("profile"));
+            started.setName("account-api");
+            started.enable(AccountLockEvent.class);
+            started.enable(AccountUnlockEvent.class);
+            started.enable(LedgerWriteEvent.class);
+            started.enable(BusinessErrorEvent.class);
+            started.setToDisk(true);
+            started.setMaxSize(maxSize.toBytes());
+            started.setDuration(duration);
+            started.setDestination(directory.resolve(FILE_NAME.format(LocalDateTime.now())));
+            started.start();
+
+            close();
+            recording = started;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to start flight recording", e);
+        }
+
+        log.info("Flight recording started. duration: {}, destination: {}", duration, recording.getDestination());
+        return status();
+    }
+
+    // 이름에 시작 시각이 들어가므로 이름 순서가 곧 시간 순서, 새로 쓸 파일 자리를 남기고 지움
+    private void deleteOldRecordings() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_GLOB)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.naturalOrder());
+
+        for (int i = 0; i < files.size() - (maxFiles - 1); i++) {
+            Files.deleteIfExists(files.get(i));
+            log.info("Old flight recording deleted: {}", files.get(i));
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Status stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Flight recording stopped. destination: {}", recording.getDestination());
+        }
+        return status();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Status {
+        private boolean recording;
+        private Instant startedAt;
+        private String file;
+    }
+}
@@ -0,0 +1,75 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.service.StageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValuePercentile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /actuator/latency?endpoint=/transaction/use: 단계별 현재 백분위(ms, 최근 2분)
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public List<StageLatency> latency(@Nullable String endpoint) {
+        return meterRegistry.find(StageMetrics.METRIC).timers().stream()
+                .filter(timer -> endpoint == null || timer.getId().getTag("endpoint").contains(endpoint))
+                .map(StageLatency::from)
+                .sorted(Comparator.comparing(StageLatency::getEndpoint)
+                        .thenComparing(StageLatency::getResult)
+                        .thenComparing(StageLatency::getError)
+                        .thenComparing(StageLatency::getStage))
+                .toList();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StageLatency {
+        private String endpoint;
+        private String stage;
+        private String result;
+        private String error;
+        private long count;
+        private double p50;
+        private double p90;
+        private double p99;
+        private double p999;
+        private double max;
+
+        static StageLatency from(Timer timer) {
+            // StageMetrics 에 등록한 순서(0.5, 0.9, 0.99, 0.999)
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            ValuePercentile[] values = snapshot.percentileValues();
+            double[] percentiles = new double[4];
+            for (int i = 0; i < Math.min(values.length, percentiles.length); i++) {
+                percentiles[i] = values[i].value(TimeUnit.MILLISECONDS);
+            }
+
+            return new StageLatency(
+                    timer.getId().getTag("endpoint"),
+                    timer.getId().getTag("stage"),
+                    timer.getId().getTag("result"),
+                    timer.getId().getTag("error"),
+                    timer.count(),
+                    percentiles[0], percentiles[1], percentiles[2], percentiles[3],
+                    snapshot.max(TimeUnit.MILLISECONDS)
+            );
+        }
+    }
+}
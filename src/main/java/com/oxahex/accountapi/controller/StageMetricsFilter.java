@@ -0,0 +1,93 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.service.StageMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 StageMetrics trace 를 열고, 응답을 쓴 뒤 "METHOD /pattern" 을 endpoint 로 기록
+ * <p> 직렬화(response) 시간까지 Server-Timing 헤더에 담기 위해 응답 본문을 버퍼에 쓰고, 헤더를 붙인 뒤 내보냄.
+ * 내역서(/statement)는 스트리밍이므로 버퍼링하지 않음.
+ * <p> 비동기로 넘어간 요청(CompletableFuture, StreamingResponseBody)은 이 스레드에서 끝나지 않으므로
+ * trace 를 요청 속성에 넘겨 두고, 비동기 디스패치가 끝날 때 기록하고 버퍼를 내보냄.
+ */
+@RequiredArgsConstructor
+public class StageMetricsFilter extends OncePerRequestFilter {
+    public static final String SERVER_TIMING = "Server-Timing";
+    private static final String TRACE_ATTRIBUTE = StageMetricsFilter.class.getName() + ".trace";
+
+    private final StageMetrics stageMetrics;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            stageMetrics.resume(request.getAttribute(TRACE_ATTRIBUTE));
+            request.removeAttribute(TRACE_ATTRIBUTE);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                finish(request, response);
+                copyBodyToResponse(request, response);
+            }
+            return;
+        }
+
+        HttpServletResponse responseToUse = request.getRequestURI().endsWith("/statement")
+                ? response : new ContentCachingResponseWrapper(response);
+
+        stageMetrics.begin();
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            finish(request, responseToUse);
+            copyBodyToResponse(request, responseToUse);
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            stageMetrics.discard();
+            return;
+        }
+        if (request.isAsyncStarted()) {
+            request.setAttribute(TRACE_ATTRIBUTE, stageMetrics.suspend());
+            return;
+        }
+
+        String serverTiming = stageMetrics.finish(request.getMethod() + " " + pattern);
+        if (serverTiming != null && !response.isCommitted()) {
+            response.setHeader(SERVER_TIMING, serverTiming);
+        }
+    }
+
+    private static void copyBodyToResponse(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        ContentCachingResponseWrapper wrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper != null) {
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
@@ -2,28 +2,50 @@ package com.oxahex.accountapi.controller;
 
 import com.oxahex.accountapi.aop.AccountLock;
 import com.oxahex.accountapi.dto.CancelBalance;
-import com.oxahex.accountapi.dto.QueryTransactionResponse;
+import com.oxahex.accountapi.dto.Statement;
+import com.oxahex.accountapi.dto.TransactionDto;
+import com.oxahex.accountapi.dto.TransactionHistory;
+import com.oxahex.accountapi.dto.Transfer;
 import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.dto.UseBalanceBatch;
 import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.service.AsyncAccountLockExecutor;
+import com.oxahex.accountapi.service.FailedTransactionRecorder;
+import com.oxahex.accountapi.service.StatementService;
+import com.oxahex.accountapi.service.TransactionQueryCache;
 import com.oxahex.accountapi.service.TransactionService;
+import com.oxahex.accountapi.type.ErrorCode;
+import com.oxahex.accountapi.type.StatementFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class TransactionController {
     private final TransactionService transactionService;
+    private final FailedTransactionRecorder failedTransactionRecorder;
+    private final TransactionQueryCache transactionQueryCache;
+    private final StatementService statementService;
+    private final AsyncAccountLockExecutor asyncAccountLockExecutor;
 
     @PostMapping("/transaction/use")
     @AccountLock
     public UseBalance.Response useBalance(
-            @Valid @RequestBody UseBalance.Request request) throws InterruptedException {
+            @Valid @RequestBody UseBalance.Request request) {
 
         try {
-            Thread.sleep(5000L);
             return UseBalance.Response.from(
                     transactionService.useBalance(
                             request.getUserId(),
@@ -34,11 +56,84 @@ public class TransactionController {
         } catch (AccountException e) {
             log.error("Failed to use balance.");
 
-            // 실패 시 실패 데이터 업데이트
-            transactionService.saveFailedUseTransaction(
-                    request.getAccountNumber(),
+            // 실패 시 실패 데이터 업데이트(비동기, Lock 을 잡은 채로 저장하지 않음)
+            if (isFailedTransaction(e)) {
+                failedTransactionRecorder.recordUse(
+                        request.getAccountNumber(),
+                        request.getAmount()
+                );
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * 잔액 사용(비동기): Lock 을 기다리는 동안 요청 스레드를 세워 두지 않음
+     * <p> Lock 획득, 처리, 해제는 AsyncAccountLockExecutor 가 하고 응답은 future 가 완료될 때 보냄.
+     */
+    @PostMapping("/transaction/use/async")
+    public CompletableFuture<UseBalance.Response> useBalanceAsync(
+            @Valid @RequestBody UseBalance.Request request) {
+
+        return asyncAccountLockExecutor.supplyWithLock(
+                request.getAccountNumber(),
+                () -> UseBalance.Response.from(
+                        transactionService.useBalance(
+                                request.getUserId(),
+                                request.getAccountNumber(),
+                                request.getAmount()
+                        )
+                )
+        ).whenComplete((response, e) -> {
+            if (isFailedTransaction(e)) {
+                log.error("Failed to use balance.");
+                failedTransactionRecorder.recordUse(request.getAccountNumber(), request.getAmount());
+            }
+        });
+    }
+
+    /**
+     * 잔액 사용 배치(정산 등 대량 처리)
+     * <p> 대상 계좌 Lock 을 한 번에 잡고 하나의 트랜잭션으로 처리, 항목별 결과를 요청 순서대로 반환.
+     */
+    @PostMapping("/transaction/use/batch")
+    @AccountLock
+    public UseBalanceBatch.Response useBalanceBatch(
+            @Valid @RequestBody UseBalanceBatch.Request request) {
+
+        return UseBalanceBatch.Response.from(
+                transactionService.useBalanceBatch(request.getItems())
+        );
+    }
+
+    /**
+     * 계좌 이체: 두 계좌 Lock 을 계좌 번호 순서로 한 번에 잡고(양방향 이체가 동시에 와도 교착 없음),
+     * 출금과 입금을 하나의 트랜잭션으로 처리
+     */
+    @PostMapping("/transaction/transfer")
+    @AccountLock
+    public Transfer.Response transferBalance(
+            @Valid @RequestBody Transfer.Request request) {
+
+        try {
+            List<TransactionDto> transactions = transactionService.transferBalance(
+                    request.getUserId(),
+                    request.getFromAccountNumber(),
+                    request.getToAccountNumber(),
                     request.getAmount()
             );
+            return Transfer.Response.from(transactions.get(0), transactions.get(1));
+        } catch (AccountException e) {
+            log.error("Failed to transfer balance.");
+
+            // 실패 시 출금 계좌에 실패 데이터 업데이트(비동기, Lock 을 잡은 채로 저장하지 않음)
+            if (isFailedTransaction(e)) {
+                failedTransactionRecorder.recordTransfer(
+                        request.getFromAccountNumber(),
+                        request.getAmount()
+                );
+            }
 
             throw e;
         }
@@ -60,22 +155,112 @@ public class TransactionController {
         } catch (AccountException e) {
             log.error("Failed to cancel balance.");
 
-            // 실패 시 실패 데이터 업데이트
-            transactionService.saveFailedCancelTransaction(
-                    request.getAccountNumber(),
-                    request.getAmount()
-            );
+            // 실패 시 실패 데이터 업데이트(비동기, Lock 을 잡은 채로 저장하지 않음)
+            if (isFailedTransaction(e)) {
+                failedTransactionRecorder.recordCancel(
+                        request.getAccountNumber(),
+                        request.getAmount()
+                );
+            }
 
             throw e;
         }
     }
 
+    /**
+     * 잔액 사용 취소(비동기)
+     */
+    @PostMapping("/transaction/cancel/async")
+    public CompletableFuture<CancelBalance.Response> cancelBalanceAsync(
+            @Valid @RequestBody CancelBalance.Request request) {
+
+        return asyncAccountLockExecutor.supplyWithLock(
+                request.getAccountNumber(),
+                () -> CancelBalance.Response.from(
+                        transactionService.cancelBalance(
+                                request.getTransactionId(),
+                                request.getAccountNumber(),
+                                request.getAmount()
+                        )
+                )
+        ).whenComplete((response, e) -> {
+            if (isFailedTransaction(e)) {
+                log.error("Failed to cancel balance.");
+                failedTransactionRecorder.recordCancel(request.getAccountNumber(), request.getAmount());
+            }
+        });
+    }
+
     @GetMapping("/transaction/{transactionId}")
-    public QueryTransactionResponse queryTransaction(
+    public ResponseEntity<byte[]> queryTransaction(
             @PathVariable String transactionId) {
 
-        return QueryTransactionResponse.from(
-                transactionService.queryTransaction(transactionId)
-        );
+        // 직렬화된 QueryTransactionResponse, 캐시에 있으면 DB 조회 없이 응답
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(transactionQueryCache.getOrLoad(
+                        transactionId,
+                        () -> transactionService.queryTransaction(transactionId)
+                ));
+    }
+
+    /**
+     * 계좌의 거래 내역(최신순), 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨서 조회
+     */
+    @GetMapping("/account/{accountNumber}/transactions")
+    public TransactionHistory.Response getTransactionHistory(
+            @PathVariable String accountNumber,
+            @Valid TransactionHistory.Request request) {
+
+        return transactionService.getTransactionHistory(accountNumber, request);
+    }
+
+    /**
+     * 계좌 거래 명세서 내보내기(NDJSON | CSV), 기간 안의 모든 거래를 오래된 순으로 스트리밍
+     */
+    @GetMapping("/account/{accountNumber}/statement")
+    public ResponseEntity<StreamingResponseBody> exportAccountStatement(
+            @PathVariable String accountNumber,
+            Statement.Request request) {
+
+        statementService.validateAccount(accountNumber, request);
+        return statement("statement-" + accountNumber, request,
+                out -> statementService.writeAccountStatement(accountNumber, request, out));
+    }
+
+    /**
+     * 유저의 모든 계좌 거래 명세서 내보내기
+     */
+    @GetMapping("/user/{userId}/statement")
+    public ResponseEntity<StreamingResponseBody> exportUserStatement(
+            @PathVariable Long userId,
+            Statement.Request request) {
+
+        statementService.validateUser(userId, request);
+        return statement("statement-user-" + userId, request,
+                out -> statementService.writeUserStatement(userId, request, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> statement(
+            String fileName, Statement.Request request, StreamingResponseBody body) {
+
+        StatementFormat format = request.getFormat();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build().toString())
+                .body(body);
+    }
+
+    // Lock 대기 실패, 대기열 초과, 낙관적 Lock 재시도 소진(OptimisticRetryAspect)으로 거절된 요청은 실패 거래를 남기지 않음
+    private static boolean isFailedTransaction(Throwable e) {
+        return unwrap(e) instanceof AccountException accountException
+                && accountException.getErrorCode() != ErrorCode.ACCOUNT_TRANSACTION_LOCK
+                && accountException.getErrorCode() != ErrorCode.SERVER_BUSY;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
-}
\ No newline at end of file
+}
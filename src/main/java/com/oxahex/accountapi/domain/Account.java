@@ -17,14 +17,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_account_account_number", columnList = "account_number", unique = true),
+        @Index(name = "idx_account_account_user_id", columnList = "account_user_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Account {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_user_id")
     private AccountUser accountUser;
+
+    @Column(name = "account_number", length = 10, nullable = false)
     private String accountNumber;
 
     @Enumerated(EnumType.STRING)
@@ -32,6 +40,9 @@ public class Account {
 
     private Long balance;
 
+    @Version
+    private Long version;
+
     private LocalDateTime registeredAt;
     private LocalDateTime unRegisteredAt;
 
@@ -20,10 +20,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_transaction_transaction_id", columnList = "transaction_id", unique = true),
+        @Index(name = "idx_transaction_account_id_transacted_at_id", columnList = "account_id, transacted_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Transaction {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     Long id;    // TODO: Base Entity 만들고 상속 받는 구조로 만들어도 좋음.
 
 
@@ -32,13 +37,16 @@ public class Transaction {
     @Enumerated(EnumType.STRING)
     private TransactionResultType transactionResultType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id")
     private Account account;
 
     private Long amount;
     private Long balanceSnapShot;
 
+    @Column(name = "transaction_id", length = 32, nullable = false)
     private String transactionId;
+    @Column(name = "transacted_at")
     private LocalDateTime transactedAt;
 
     @CreatedDate
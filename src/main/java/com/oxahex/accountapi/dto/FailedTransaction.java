@@ -0,0 +1,19 @@
+package com.oxahex.accountapi.dto;
+
+import com.oxahex.accountapi.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 나중에 실패 거래(F)로 저장할 요청 정보
+ */
+@Getter
+@AllArgsConstructor
+public class FailedTransaction {
+    private TransactionType transactionType;
+    private String accountNumber;
+    private Long amount;
+    private LocalDateTime transactedAt;     // 실패한 시각(저장 시각이 아님)
+}
@@ -0,0 +1,76 @@
+package com.oxahex.accountapi.dto;
+
+import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.type.StatementFormat;
+import com.oxahex.accountapi.type.TransactionResultType;
+import com.oxahex.accountapi.type.TransactionType;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public class Statement {
+
+    /**
+     * 내보낼 기간(모두 선택)과 형식
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime from;     // 이 시각 이후(포함)
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime to;       // 이 시각 이전(미포함)
+
+        private StatementFormat format = StatementFormat.NDJSON;
+    }
+
+    /**
+     * 거래 내역 한 줄(NDJSON 한 줄, CSV 한 행)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Line {
+        // CSV 의 열 순서
+        public static final String CSV_HEADER =
+                "accountNumber,transactionId,transactionType,transactionResult,amount,balanceSnapShot,transactedAt";
+
+        private String accountNumber;
+        private String transactionId;
+        private TransactionType transactionType;
+        private TransactionResultType transactionResult;
+        private Long amount;
+        private Long balanceSnapShot;
+        private LocalDateTime transactedAt;
+
+        public static Line from(Transaction transaction) {
+            return Line.builder()
+                    .accountNumber(transaction.getAccount().getAccountNumber())
+                    .transactionId(transaction.getTransactionId())
+                    .transactionType(transaction.getTransactionType())
+                    .transactionResult(transaction.getTransactionResultType())
+                    .amount(transaction.getAmount())
+                    .balanceSnapShot(transaction.getBalanceSnapShot())
+                    .transactedAt(transaction.getTransactedAt())
+                    .build();
+        }
+
+        // 모든 값이 숫자, 영문 enum, 날짜라 따옴표 처리가 필요 없음
+        public String toCsv() {
+            return String.join(",",
+                    accountNumber,
+                    transactionId,
+                    String.valueOf(transactionType),
+                    String.valueOf(transactionResult),
+                    String.valueOf(amount),
+                    String.valueOf(balanceSnapShot),
+                    String.valueOf(transactedAt));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.oxahex.accountapi.dto;
 
 import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.type.ErrorCode;
 import com.oxahex.accountapi.type.TransactionResultType;
 import com.oxahex.accountapi.type.TransactionType;
 import lombok.*;
@@ -20,6 +21,7 @@ public class TransactionDto {
     private Long balanceSnapShot;
     private String transactionId;
     private LocalDateTime transactedAt;
+    private ErrorCode errorCode;    // 배치 처리 중 실패한 항목의 원인
 
     public static TransactionDto fromEntity(Transaction transaction) {
         return TransactionDto.builder()
@@ -0,0 +1,63 @@
+package com.oxahex.accountapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.oxahex.accountapi.type.TransactionResultType;
+import com.oxahex.accountapi.type.TransactionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TransactionHistory {
+
+    /**
+     * 조회 조건(모두 선택), 최신 거래부터 size 개씩
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime from;     // 이 시각 이후(포함)
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime to;       // 이 시각 이전(미포함)
+
+        private TransactionType type;
+        private TransactionResultType result;
+
+        private String cursor;          // 이전 응답의 nextCursor
+
+        @Min(1)
+        @Max(100)
+        private int size = 20;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private List<Item> transactions;
+        private String nextCursor;      // 마지막 페이지면 null
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @JsonIgnore
+        private Long id;                // 커서(transactedAt, id)용
+        private String transactionId;
+        private TransactionType transactionType;
+        private TransactionResultType transactionResult;
+        private Long amount;
+        private Long balanceSnapShot;
+        private LocalDateTime transactedAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.oxahex.accountapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.oxahex.accountapi.aop.AccountLockIdsInterface;
+import com.oxahex.accountapi.type.TransactionResultType;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class Transfer {
+
+    /**
+     * 두 계좌 Lock 을 한 번에(계좌 번호 순서로) 잡도록 AccountLockIdsInterface 로 계좌 번호를 넘김
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class Request implements AccountLockIdsInterface {
+        @NotNull
+        @Min(1)
+        private Long userId;                // 출금 계좌 소유주
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String fromAccountNumber;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String toAccountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1000_000_000)
+        private Long amount;
+
+        @JsonIgnore
+        @Override
+        public Set<String> getAccountNumbers() {
+            Set<String> accountNumbers = new TreeSet<>();
+            accountNumbers.add(fromAccountNumber);
+            accountNumbers.add(toAccountNumber);
+            return accountNumbers;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private String fromAccountNumber;
+        private String toAccountNumber;
+        private TransactionResultType transactionResult;
+        private String withdrawTransactionId;   // 출금 계좌의 TRANSFER_OUT 거래
+        private String depositTransactionId;    // 입금 계좌의 TRANSFER_IN 거래
+        private Long amount;
+        private LocalDateTime transactedAt;
+
+        public static Response from(TransactionDto withdrawal, TransactionDto deposit) {
+            return Response.builder()
+                    .fromAccountNumber(withdrawal.getAccountNumber())
+                    .toAccountNumber(deposit.getAccountNumber())
+                    .transactionResult(withdrawal.getTransactionResultType())
+                    .withdrawTransactionId(withdrawal.getTransactionId())
+                    .depositTransactionId(deposit.getTransactionId())
+                    .amount(withdrawal.getAmount())
+                    .transactedAt(withdrawal.getTransactedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.oxahex.accountapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.oxahex.accountapi.aop.AccountLockIdsInterface;
+import com.oxahex.accountapi.type.ErrorCode;
+import com.oxahex.accountapi.type.TransactionResultType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class UseBalanceBatch {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockIdsInterface {
+        @NotEmpty
+        @Size(max = 10_000)
+        private List<@NotNull @Valid UseBalance.Request> items;     // null 항목은 Lock 전에 검증 오류로 거절
+
+        @JsonIgnore
+        @Override
+        public Set<String> getAccountNumbers() {
+            return items.stream()
+                    .map(UseBalance.Request::getAccountNumber)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private List<Result> results;   // 요청 items 와 같은 순서
+
+        public static Response from(List<TransactionDto> transactionDtos) {
+            return new Response(transactionDtos.stream()
+                    .map(Result::from)
+                    .toList());
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private String accountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+        private LocalDateTime transactedAt;
+        private ErrorCode errorCode;    // 실패한 경우에만
+
+        public static Result from(TransactionDto transactionDto) {
+            return Result.builder()
+                    .accountNumber(transactionDto.getAccountNumber())
+                    .transactionResult(transactionDto.getTransactionResultType())
+                    .transactionId(transactionDto.getTransactionId())
+                    .amount(transactionDto.getAmount())
+                    .transactedAt(transactionDto.getTransactedAt())
+                    .errorCode(transactionDto.getErrorCode())
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.oxahex.accountapi.exception;
 
 import com.oxahex.accountapi.dto.ErrorResponse;
+import com.oxahex.accountapi.jfr.BusinessErrorEvent;
+import com.oxahex.accountapi.service.StageMetrics;
+import com.oxahex.accountapi.type.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import static com.oxahex.accountapi.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 import static com.oxahex.accountapi.type.ErrorCode.INTERNAL_SERVER_ERROR;
 import static com.oxahex.accountapi.type.ErrorCode.INVALID_REQUEST;
 
@@ -16,24 +24,58 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(AccountException.class)
     public ErrorResponse handleAccountException(AccountException e) {
         log.error("{} is occurred", e.getErrorCode());
+        record(e.getErrorCode(), e);
 
         return new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
     }
 
+    // @Valid 요청 본문 검증 실패
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+        log.error("MethodArgumentNotValidException is occurred.");
+        record(INVALID_REQUEST, e);
+
+        return new ErrorResponse(INVALID_REQUEST, INVALID_REQUEST.getDescription());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         log.error("DataIntegrityViolationException is occurred.");
+        record(INVALID_REQUEST, e);
 
         return new ErrorResponse(INVALID_REQUEST, INVALID_REQUEST.getDescription());
     }
 
+    // 같은 계좌를 동시에 수정해 버전이 맞지 않는 경우(재시도하지 않는 경로)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.error("OptimisticLockingFailureException is occurred.");
+        record(ACCOUNT_TRANSACTION_LOCK, e);
+
+        return new ErrorResponse(ACCOUNT_TRANSACTION_LOCK, ACCOUNT_TRANSACTION_LOCK.getDescription());
+    }
+
     @ExceptionHandler(Exception.class)
     public ErrorResponse handleException(Exception e) {
         log.error("Exception is occurred.");
+        record(INTERNAL_SERVER_ERROR, e);
 
         return new ErrorResponse(
                 INTERNAL_SERVER_ERROR,
                 INTERNAL_SERVER_ERROR.getDescription()
         );
     }
+
+    // 요청 단계 지표의 결과(F)는 항상, JFR 이벤트는 녹화 중일 때만 남김
+    private static void record(ErrorCode errorCode, Exception e) {
+        StageMetrics.errorHandled(errorCode.name());
+
+        BusinessErrorEvent event = new BusinessErrorEvent();
+        if (event.shouldCommit()) {
+            event.errorCode = errorCode.name();
+            event.exception = e.getClass();
+            event.commit();
+        }
+    }
 }
\ No newline at end of file
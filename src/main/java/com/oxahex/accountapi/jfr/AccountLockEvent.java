@@ -0,0 +1,27 @@
+package com.oxahex.accountapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 계좌 Lock 획득 시도(LockService.lock, lockAll), 이벤트 시간이 곧 대기 시간
+ */
+@Name("com.oxahex.account.Lock")
+@Label("Account Lock")
+@Category({"Account API", "Lock"})
+@Description("Redisson account lock acquisition, duration is the wait time")
+@StackTrace(false)
+public class AccountLockEvent extends Event {
+    @Label("Account Number")
+    public String accountNumber;    // lockAll 이면 null
+
+    @Label("Accounts")
+    public int accounts;
+
+    @Label("Acquired")
+    public boolean acquired;
+}
@@ -0,0 +1,27 @@
+package com.oxahex.accountapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 계좌 Lock 해제(LockService.unlock, unlockAll)
+ */
+@Name("com.oxahex.account.Unlock")
+@Label("Account Unlock")
+@Category({"Account API", "Lock"})
+@Description("Redisson account lock release")
+@StackTrace(false)
+public class AccountUnlockEvent extends Event {
+    @Label("Account Number")
+    public String accountNumber;    // unlockAll 이면 null
+
+    @Label("Accounts")
+    public int accounts;
+
+    @Label("Lease Expired")
+    public boolean leaseExpired;    // 해제 전에 lease 가 지나 이미 풀려 있었음
+}
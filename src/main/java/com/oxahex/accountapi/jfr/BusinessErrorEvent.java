@@ -0,0 +1,24 @@
+package com.oxahex.accountapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 오류 응답(GlobalExceptionHandler), 오류가 몰린 구간을 GC, safepoint 와 같은 타임라인에서 보기 위함
+ */
+@Name("com.oxahex.account.BusinessError")
+@Label("Business Error")
+@Category({"Account API", "Error"})
+@Description("Error response returned by the API")
+@StackTrace(false)
+public class BusinessErrorEvent extends Event {
+    @Label("Error Code")
+    public String errorCode;
+
+    @Label("Exception")
+    public Class<?> exception;
+}
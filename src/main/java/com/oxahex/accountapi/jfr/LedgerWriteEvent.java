@@ -0,0 +1,28 @@
+package com.oxahex.accountapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 거래 내역 저장(TransactionService.saveAndGetTransaction)
+ * <p> INSERT 는 flush(커밋) 때 실행되므로 시간은 persist 와 조회 캐시 등록까지만.
+ */
+@Name("com.oxahex.account.LedgerWrite")
+@Label("Ledger Write")
+@Category({"Account API", "Transaction"})
+@Description("Transaction record persisted")
+@StackTrace(false)
+public class LedgerWriteEvent extends Event {
+    @Label("Transaction Type")
+    public String transactionType;
+
+    @Label("Result")
+    public String transactionResult;
+
+    @Label("Account Number")
+    public String accountNumber;
+}
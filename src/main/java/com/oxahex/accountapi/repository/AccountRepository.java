@@ -2,19 +2,52 @@ package com.oxahex.accountapi.repository;
 
 import com.oxahex.accountapi.domain.Account;
 import com.oxahex.accountapi.domain.AccountUser;
+import com.oxahex.accountapi.dto.AccountInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
-    Optional<Account> findFirstByOrderByIdDesc();   // 가장 마지막에 생성된 Account를 가져옴
-
     Integer countByAccountUser(AccountUser accountUser);    // accountUser가 생성한 총 계좌 수 반환
 
     Optional<Account> findByAccountNumber(String accountNumber);    // 계좌 번호로 특정 계좌 데이터 가져옴
 
+    boolean existsByAccountNumber(String accountNumber);
+
     List<Account> findByAccountUser(AccountUser accountUser);   // 유저와 연결된 계좌를 모두 가져옴
+
+    // 유저의 계좌 번호, 잔액만 한 번에 조회(엔티티를 만들지 않음)
+    // 유저는 있고 계좌가 없으면 값이 모두 null 인 행 하나, 유저가 없으면 빈 목록
+    @Query("select new com.oxahex.accountapi.dto.AccountInfo(a.accountNumber, a.balance) " +
+            "from AccountUser u left join Account a on a.accountUser = u " +
+            "where u.id = :userId order by a.id")
+    List<AccountInfo> findAccountInfosByUserId(@Param("userId") Long userId);
+
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);    // 여러 계좌를 한 번에 가져옴(배치)
+
+    // 소유주, 계좌 상태, 잔액 조건을 만족할 때만 차감(조건 불만족 시 0 반환)
+    @Modifying
+    @Query("update Account a set a.balance = a.balance - :amount, a.version = a.version + 1, a.updatedAt = :now " +
+            "where a.accountNumber = :accountNumber and a.accountUser.id = :userId " +
+            "and a.accountStatus = com.oxahex.accountapi.type.AccountStatus.IN_USE and a.balance >= :amount")
+    int debitBalance(@Param("accountNumber") String accountNumber,
+                     @Param("userId") Long userId,
+                     @Param("amount") Long amount,
+                     @Param("now") LocalDateTime now);
+
+    // 사용 중인 계좌에만 입금(조건 불만족 시 0 반환), 영속성 컨텍스트의 계좌는 다시 읽어야 함
+    @Modifying(clearAutomatically = true)
+    @Query("update Account a set a.balance = a.balance + :amount, a.version = a.version + 1, a.updatedAt = :now " +
+            "where a.id = :id and a.accountStatus = com.oxahex.accountapi.type.AccountStatus.IN_USE")
+    int creditBalance(@Param("id") Long id,
+                      @Param("amount") Long amount,
+                      @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -1,12 +1,78 @@
 package com.oxahex.accountapi.repository;
 
 import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.dto.TransactionHistory;
+import com.oxahex.accountapi.type.TransactionResultType;
+import com.oxahex.accountapi.type.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    String STATEMENT_FETCH_SIZE = "500";
+
     Optional<Transaction> findByTransactionId(String transactionId);
-}
\ No newline at end of file
+
+    // 조회 응답에 계좌 번호가 필요하므로 계좌까지 한 번에(fetch join) 가져옴
+    @EntityGraph(attributePaths = "account")
+    Optional<Transaction> findWithAccountByTransactionId(String transactionId);
+
+    // 계좌의 거래 내역을 최신순으로(keyset): (transactedAt, id) 가 (before, beforeId) 보다 앞선 것만
+    // transactedAt <= :before 를 따로 두어 (account_id, transacted_at, id) 인덱스 범위 조회가 되도록 함
+    @Query("select new com.oxahex.accountapi.dto.TransactionHistory$Item(" +
+            "t.id, t.transactionId, t.transactionType, t.transactionResultType, t.amount, t.balanceSnapShot, t.transactedAt) " +
+            "from Transaction t join t.account a " +
+            "where a.accountNumber = :accountNumber " +
+            "and t.transactedAt <= :before and (t.transactedAt < :before or t.id < :beforeId) " +
+            "and (:from is null or t.transactedAt >= :from) " +
+            "and (:type is null or t.transactionType = :type) " +
+            "and (:result is null or t.transactionResultType = :result) " +
+            "order by t.transactedAt desc, t.id desc")
+    List<TransactionHistory.Item> findHistory(@Param("accountNumber") String accountNumber,
+                                              @Param("before") LocalDateTime before,
+                                              @Param("beforeId") Long beforeId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("type") TransactionType type,
+                                              @Param("result") TransactionResultType result,
+                                              Pageable pageable);
+
+    // 명세서 내보내기: 결과를 한 번에 올리지 않고 STATEMENT_FETCH_SIZE 행씩 읽음(트랜잭션 안에서 Stream 을 닫을 것)
+    // 한 줄에 계좌 번호가 필요하므로 계좌를 fetch join
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STATEMENT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Transaction t join fetch t.account a " +
+            "where a.accountNumber = :accountNumber " +
+            "and (:from is null or t.transactedAt >= :from) " +
+            "and (:to is null or t.transactedAt < :to) " +
+            "order by t.transactedAt, t.id")
+    Stream<Transaction> streamStatementByAccountNumber(@Param("accountNumber") String accountNumber,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STATEMENT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Transaction t join fetch t.account a " +
+            "where a.accountUser.id = :userId " +
+            "and (:from is null or t.transactedAt >= :from) " +
+            "and (:to is null or t.transactedAt < :to) " +
+            "order by t.transactedAt, t.id")
+    Stream<Transaction> streamStatementByUserId(@Param("userId") Long userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+}
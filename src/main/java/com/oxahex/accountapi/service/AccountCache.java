@@ -0,0 +1,209 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.dto.AccountInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌 조회 near cache(서버 로컬)
+ * <p> 유저별 계좌 번호 목록과 계좌 번호별 계좌 스냅샷을 따로 담아 둠.
+ * 잔액이 바뀌면 스냅샷만, 계좌가 생기거나 해지되면 유저 목록까지 지움.
+ * <p> 두 영역 모두 max-size 를 넘으면 가장 오래 안 쓴 항목부터(LRU), ttl 이 지나면 조회 시점에 버림.
+ * <p> 무효화는 트랜잭션 커밋 후에 하고, Redis pub/sub(account-cache-invalidation)으로 다른 서버에도 알림.
+ * 읽는 동안 같은 유저 목록이나 같은 계좌가 무효화됐다면 그 전에 DB 에서 읽어 온 값은 캐시에 넣지 않음(generation).
+ * 다른 키의 무효화는 영향을 주지 않음. 키별 마지막 무효화 시점은 max-size 개까지만 남기고,
+ * 버린 항목 중 가장 늦은 시점(floor) 이전에 시작한 읽기는 모두 담지 않음.
+ * <p> 메트릭은 CacheRegion 참고(cache=user-accounts|accounts).
+ */
+@Slf4j
+@Component
+public class AccountCache {
+    static final String TOPIC = "account-cache-invalidation";
+    private static final String USER_PREFIX = "U:";
+    private static final String ACCOUNT_PREFIX = "A:";
+
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final CacheRegion<Long, List<String>> userAccounts;
+    private final CacheRegion<String, AccountInfo> accounts;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Long> invalidatedAt;  // 무효화 메시지(키) -> 그때의 generation, 시점 순서
+    private long floor;                             // invalidatedAt 에서 버린 항목 중 가장 늦은 시점
+
+    private RTopic topic;
+    private int listenerId;
+
+    public AccountCache(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${account.cache.enabled:true}") boolean enabled,
+            @Value("${account.cache.max-size:10000}") int maxSize,
+            @Value("${account.cache.ttl:30s}") Duration ttl
+    ) {
+        this.redissonClient = redissonClient;
+        this.enabled = enabled;
+        this.userAccounts = new CacheRegion<>("user-accounts", maxSize, ttl, meterRegistry);
+        this.accounts = new CacheRegion<>("accounts", maxSize, ttl, meterRegistry);
+        this.invalidatedAt = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                floor = eldest.getValue();
+                return true;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> evictLocal(message));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 유저의 계좌 목록(계좌 번호 순서는 처음 읽어 온 순서)
+     * @return 목록이나 계좌 스냅샷 중 하나라도 없으면 null
+     */
+    public List<AccountInfo> getAccountsByUserId(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+
+        List<String> accountNumbers = userAccounts.get(userId);
+        if (accountNumbers == null) {
+            return null;
+        }
+
+        List<AccountInfo> result = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            AccountInfo accountInfo = accounts.get(accountNumber);
+            if (accountInfo == null) {
+                return null;
+            }
+            result.add(accountInfo);
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 읽기 전에 받아 두고 putAccounts 에 넘김
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * DB 에서 읽어 온 유저의 계좌 목록을 담음
+     * @param readGeneration DB 에서 읽기 전의 generation(), 그 사이 이 유저 목록이나 계좌가 무효화됐다면 담지 않음
+     */
+    public void putAccounts(Long userId, List<AccountInfo> accountInfos, long readGeneration) {
+        if (!enabled) {
+            return;
+        }
+
+        // 확인과 담기 사이에 무효화가 끼어들지 않도록 evictLocal 과 같은 Lock 안에서 처리
+        synchronized (invalidatedAt) {
+            if (invalidatedSince(USER_PREFIX + userId, readGeneration)
+                    || accountInfos.stream().anyMatch(accountInfo ->
+                    invalidatedSince(ACCOUNT_PREFIX + accountInfo.getAccountNumber(), readGeneration))) {
+                return;
+            }
+
+            accountInfos.forEach(accountInfo -> accounts.put(accountInfo.getAccountNumber(), accountInfo));
+            userAccounts.put(userId, accountInfos.stream().map(AccountInfo::getAccountNumber).toList());
+        }
+    }
+
+    private boolean invalidatedSince(String key, long readGeneration) {
+        return floor > readGeneration || invalidatedAt.getOrDefault(key, 0L) > readGeneration;
+    }
+
+    /**
+     * 잔액이 바뀐 계좌의 스냅샷을 커밋 후에 지움
+     */
+    public void evictAccount(String accountNumber) {
+        afterCommit(ACCOUNT_PREFIX + accountNumber);
+    }
+
+    /**
+     * 계좌가 생기거나 해지된 유저의 목록과 해당 계좌 스냅샷을 커밋 후에 지움
+     */
+    public void evictUser(Long userId, String accountNumber) {
+        afterCommit(USER_PREFIX + userId);
+        afterCommit(ACCOUNT_PREFIX + accountNumber);
+    }
+
+    private void afterCommit(String message) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndPublish(message);
+                }
+            });
+        } else {
+            evictAndPublish(message);
+        }
+    }
+
+    private void evictAndPublish(String message) {
+        evictLocal(message);
+
+        // 다른 서버에 알리지 못해도 ttl 이 지나면 사라지므로 요청은 실패시키지 않음
+        try {
+            topic.publishAsync(message).whenComplete((receivers, e) -> {
+                if (e != null) {
+                    log.warn("Failed to publish account cache invalidation: {}", message, e);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to publish account cache invalidation: {}", message, e);
+        }
+    }
+
+    void evictLocal(String message) {
+        synchronized (invalidatedAt) {
+            // 지우고 다시 넣어 맨 뒤로 보냄(가장 먼저 버려지는 항목이 가장 오래된 시점이 되도록)
+            invalidatedAt.remove(message);
+            invalidatedAt.put(message, generation.incrementAndGet());
+
+            if (message.startsWith(USER_PREFIX)) {
+                userAccounts.invalidate(Long.valueOf(message.substring(USER_PREFIX.length())));
+            } else if (message.startsWith(ACCOUNT_PREFIX)) {
+                accounts.invalidate(message.substring(ACCOUNT_PREFIX.length()));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.oxahex.accountapi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 계좌 단위 Lock 구현체(SPI)
+ * <p> account.lock.provider 값에 따라 하나만 등록됨.
+ * <ul>
+ *     <li>redis(기본값): Redisson 분산 Lock - 여러 서버가 같은 계좌를 다룰 때</li>
+ *     <li>local: JVM 안의 striped ReentrantLock - 서버가 하나일 때, 테스트</li>
+ * </ul>
+ * lock 은 정해진 시간 안에 Lock 을 얻지 못하면 ACCOUNT_TRANSACTION_LOCK 예외를 던짐.
+ * <p> 비동기 대기는 AsyncAccountLockProvider 를 구현한 제공자(redis)만 지원.
+ */
+public interface AccountLockProvider {
+    void lock(String accountNumber);
+
+    void unlock(String accountNumber);
+
+    /**
+     * 여러 계좌 Lock 을 모두 얻거나, 하나라도 실패하면 이미 얻은 Lock 을 풀고 예외를 던짐.
+     * <p> 교착 상태를 피하기 위해 항상 계좌 번호 순서대로 잡음.
+     */
+    default void lockAll(Collection<String> accountNumbers) {
+        List<String> locked = new ArrayList<>();
+
+        try {
+            for (String accountNumber : new TreeSet<>(accountNumbers)) {
+                lock(accountNumber);
+                locked.add(accountNumber);
+            }
+        } catch (RuntimeException e) {
+            locked.forEach(this::unlock);
+            throw e;
+        }
+    }
+
+    default void unlockAll(Collection<String> accountNumbers) {
+        new TreeSet<>(accountNumbers).descendingSet().forEach(this::unlock);
+    }
+}
@@ -0,0 +1,9 @@
+package com.oxahex.accountapi.service;
+
+/**
+ * 신규 계좌 번호 발급
+ * <p> 구현체는 동시에 호출되어도 같은 번호를 두 번 발급하지 않아야 함.
+ */
+public interface AccountNumberAllocator {
+    String allocate();
+}
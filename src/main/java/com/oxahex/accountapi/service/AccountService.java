@@ -3,6 +3,7 @@ package com.oxahex.accountapi.service;
 import com.oxahex.accountapi.domain.Account;
 import com.oxahex.accountapi.domain.AccountUser;
 import com.oxahex.accountapi.dto.AccountDto;
+import com.oxahex.accountapi.dto.AccountInfo;
 import com.oxahex.accountapi.exception.AccountException;
 import com.oxahex.accountapi.repository.AccountRepository;
 import com.oxahex.accountapi.repository.AccountUserRepository;
@@ -15,13 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AccountService {
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountCache accountCache;
+    private final StageMetrics stageMetrics;
 
     /**
      * 계좌 생성
@@ -34,20 +37,22 @@ public class AccountService {
     public AccountDto createAccount(Long userId, Long initialBalance) {
         // 사용자가 있는지 조회
         // type은 기본적으로 Optional임
-        AccountUser accountUser = getAccountUser(userId);
+        stageMetrics.timeCommit();
+        AccountUser accountUser = stageMetrics.time("user-load", () -> getAccountUser(userId));
 
         // Validation
-        validateCreateAccount(accountUser);
+        stageMetrics.time("validation", () -> validateCreateAccount(accountUser));
 
-        // 계좌 번호를 생성하고(없으면 기본값)
-        String newAccountNumber = accountRepository.findFirstByOrderByIdDesc()
-                .map(account -> Integer.parseInt(account.getAccountNumber()) + 1 + "")
-                .orElse("1000000000");
+        // 계좌 번호 발급(미리 예약해 둔 번호 구간에서 꺼내 쓰므로 별도 조회 없음)
+        String newAccountNumber = accountNumberAllocator.allocate();
+
+        // 커밋 후 유저의 계좌 목록 캐시를 지움
+        accountCache.evictUser(accountUser.getId(), newAccountNumber);
 
         // 계좌를 저장하고, 그 정보(Entity)를 받음. -> DTO로 변환해서 반환
         // Entity 데이터를 DTO로 변환해 반환
-        return AccountDto.fromEntity(
-                accountRepository.save(
+        return AccountDto.fromEntity(stageMetrics.time("account-save",
+                () -> accountRepository.save(
                         Account.builder()
                                 .accountUser(accountUser)
                                 .accountStatus(AccountStatus.IN_USE)
@@ -55,7 +60,7 @@ public class AccountService {
                                 .balance(initialBalance)
                                 .registeredAt(LocalDateTime.now())
                                 .build()
-                )
+                ))
         );
     }
 
@@ -75,14 +80,15 @@ public class AccountService {
     @Transactional
     public AccountDto deleteAccount(Long userId, String accountNumber) {
         // 유저가 있는지 조회
-        AccountUser accountUser = getAccountUser(userId);
+        stageMetrics.timeCommit();
+        AccountUser accountUser = stageMetrics.time("user-load", () -> getAccountUser(userId));
 
         // Account 조회
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = stageMetrics.time("account-load", () -> accountRepository.findByAccountNumber(accountNumber))
                 .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
 
         // Validation
-        validateDeleteAccount(accountUser, account);
+        stageMetrics.time("validation", () -> validateDeleteAccount(accountUser, account));
 
         // 계좌 상태 업데이트, 해지 일자 수정
         account.setAccountStatus(AccountStatus.UNREGISTERED);
@@ -91,6 +97,9 @@ public class AccountService {
         // Test 위해서 추가한 부분(captor 데이터 보려고): 로직과 관련 없음
         accountRepository.save(account);
 
+        // 커밋 후 유저의 계좌 목록 캐시를 지움
+        accountCache.evictUser(accountUser.getId(), accountNumber);
+
         return AccountDto.fromEntity(account);
     }
 
@@ -113,22 +122,31 @@ public class AccountService {
 
     /**
      * 특정 유저의 계좌 목록 조회.
-     * <p> 유저가 존재하는 경우, 해당 유저와 연결된 계좌를 가져와 반환.
+     * <p> 유저와 계좌를 조인한 projection 쿼리 한 번으로 계좌 번호와 잔액만 가져옴(엔티티를 만들지 않음).
+     * 결과 행이 없으면 유저가 없는 것.
+     * <p> AccountCache 에 있으면 DB 를 거치지 않음. 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않음.
      * @param userId 해당 유저의 아이디
      * @return 사용자와 연결된 계좌 리스트
      */
-    @Transactional
-    public List<AccountDto> getAccountsByUserId(Long userId) {
-        // 사용자가 있는지 조회
-        AccountUser accountUser = getAccountUser(userId);
+    public List<AccountInfo> getAccountsByUserId(Long userId) {
+        List<AccountInfo> cached = accountCache.getAccountsByUserId(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = accountCache.generation();
+
+        List<AccountInfo> rows = accountRepository.findAccountInfosByUserId(userId);
+        if (rows.isEmpty()) {
+            throw new AccountException(ErrorCode.USER_NOT_FOUND);
+        }
 
-        // 해당 사용자와 연결된 계좌를 모두 조회
-        List<Account> accounts = accountRepository.findByAccountUser(accountUser);
+        // 계좌가 없는 유저는 값이 null 인 행 하나로 옴
+        List<AccountInfo> accountInfos = rows.stream()
+                .filter(accountInfo -> accountInfo.getAccountNumber() != null)
+                .toList();
 
-        // AccountDto 타입으로 변환해 반환
-        return accounts.stream()
-                .map(AccountDto::fromEntity)
-                .collect(Collectors.toList());
+        accountCache.putAccounts(userId, accountInfos, generation);
+        return accountInfos;
     }
 
     private AccountUser getAccountUser(Long userId) {
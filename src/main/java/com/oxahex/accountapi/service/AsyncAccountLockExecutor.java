@@ -0,0 +1,134 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ConcurrencyMode;
+import com.oxahex.accountapi.type.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 거래 API 용: 계좌 Lock 을 잡고 작업을 제한된 풀에서 실행한 뒤 Lock 을 풀고 결과를 future 로 반환
+ * <p> @AccountLock(LockAopAspect)은 요청 스레드를 세워 두고 Lock 을 기다리지만, 여기서는 RLockAsync 로 기다리므로
+ * 바쁜 계좌 앞에 줄 선 요청이 스레드를 차지하지 않음. 풀 스레드는 Lock 을 얻은 뒤의 작업에만 쓰임.
+ * <p> Lock 은 스레드가 아닌 요청마다 발급한 ownerId 로 소유(작업 스레드와 무관하게 해제 가능).
+ * ownerId 는 음수라 동기 API 의 스레드 id 와 겹치지 않음.
+ * <ul>
+ *     <li>Lock 제공자가 AsyncAccountLockProvider 가 아니면(local) Lock 대기부터 풀 스레드에서 처리</li>
+ *     <li>concurrency.mode 가 lock 이 아니면 Lock 없이 풀에서 실행</li>
+ *     <li>풀과 대기열이 가득 차면 SERVER_BUSY</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AsyncAccountLockExecutor {
+    private final AtomicLong ownerIds = new AtomicLong(Long.MIN_VALUE);
+
+    private final AccountLockProvider accountLockProvider;
+    private final LockMetrics lockMetrics;
+    private final ConcurrencyMode concurrencyMode;
+    private final ThreadPoolExecutor executor;
+
+    public AsyncAccountLockExecutor(
+            AccountLockProvider accountLockProvider,
+            LockMetrics lockMetrics,
+            @Value("${account.concurrency.mode:lock}") ConcurrencyMode concurrencyMode,
+            @Value("${account.lock.async.pool-size:16}") int poolSize,
+            @Value("${account.lock.async.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.accountLockProvider = accountLockProvider;
+        this.lockMetrics = lockMetrics;
+        this.concurrencyMode = concurrencyMode;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "account-lock-async-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 계좌 Lock 안에서 work 를 실행, Lock 을 풀고 나서 결과(또는 예외)로 완료
+     */
+    public <T> CompletableFuture<T> supplyWithLock(String accountNumber, Supplier<T> work) {
+        if (concurrencyMode != ConcurrencyMode.LOCK) {
+            return submit(work);
+        }
+
+        if (!(accountLockProvider instanceof AsyncAccountLockProvider asyncLockProvider)) {
+            return submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    accountLockProvider.lock(accountNumber);
+                } catch (AccountException e) {
+                    lockMetrics.rejected(accountNumber);
+                    throw e;
+                }
+                long acquired = System.nanoTime();
+                lockMetrics.acquired(accountNumber, acquired - start);
+
+                try {
+                    return work.get();
+                } finally {
+                    accountLockProvider.unlock(accountNumber);
+                    lockMetrics.held(System.nanoTime() - acquired);
+                }
+            });
+        }
+
+        long ownerId = ownerIds.getAndIncrement();
+        long start = System.nanoTime();
+        return asyncLockProvider.lockAsync(accountNumber, ownerId)
+                .whenComplete((locked, e) -> {
+                    if (e != null && unwrap(e) instanceof AccountException) {
+                        lockMetrics.rejected(accountNumber);
+                    }
+                })
+                .thenCompose(locked -> {
+                    long acquired = System.nanoTime();
+                    lockMetrics.acquired(accountNumber, acquired - start);
+                    CompletableFuture<T> result = submit(work);
+
+                    // 결과와 관계없이 Lock 을 푼 뒤에 완료
+                    return result.handle((value, e) -> null)
+                            .thenCompose(ignored -> asyncLockProvider.unlockAsync(accountNumber, ownerId)
+                                    .exceptionally(e -> {
+                                        log.error("Async unlock failed for accountNumber: {}", accountNumber, e);
+                                        return null;
+                                    }))
+                            .thenCompose(ignored -> {
+                                lockMetrics.held(System.nanoTime() - acquired);
+                                return result;
+                            });
+                });
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            log.error("Async transaction queue is full.");
+            return CompletableFuture.failedFuture(new AccountException(ErrorCode.SERVER_BUSY));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Async transaction executor did not terminate in time.");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.oxahex.accountapi.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 스레드를 세우지 않고 Lock 을 기다릴 수 있는 AccountLockProvider(redis)
+ * <p> 스레드가 아닌 ownerId 로 Lock 을 소유하므로 다른 스레드에서 풀 수 있음.
+ * AsyncAccountLockExecutor 는 제공자가 이 인터페이스를 구현할 때만 비동기로 기다림.
+ */
+public interface AsyncAccountLockProvider extends AccountLockProvider {
+
+    /**
+     * Lock 을 얻으면 완료, 정해진 시간 안에 얻지 못하면 ACCOUNT_TRANSACTION_LOCK 으로 실패하는 future 반환
+     */
+    CompletableFuture<Void> lockAsync(String accountNumber, long ownerId);
+
+    CompletableFuture<Void> unlockAsync(String accountNumber, long ownerId);
+}
@@ -0,0 +1,91 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 저장소(DB 시퀀스, Redis 카운터)에서 blockSize 만큼의 번호 구간을 한 번에 예약해 두고,
+ * 구간을 다 쓸 때까지는 메모리에서만 번호를 발급.
+ * <p> 번호 형식(10자리)
+ * <ul>
+ *     <li>nodePrefix 없음: 1000000000 + 순번</li>
+ *     <li>nodePrefix 있음: nodePrefix + 0으로 채운 순번 (예: prefix "2" -> 2000000000, 2000000001, ...)</li>
+ * </ul>
+ * 서버마다 다른 nodePrefix 를 주면 서버끼리 번호 대역이 겹치지 않음.
+ */
+public abstract class BlockAccountNumberAllocator implements AccountNumberAllocator {
+    static final int ACCOUNT_NUMBER_LENGTH = 10;
+    private static final long FIRST_ACCOUNT_NUMBER = 1_000_000_000L;
+
+    private final int blockSize;
+    private final String nodePrefix;
+    private final long capacity;
+
+    // reserveBlock 은 DB/Redis 를 기다리므로 synchronized 대신 사용(가상 스레드가 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long end;
+
+    protected BlockAccountNumberAllocator(int blockSize, String nodePrefix) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        if (!nodePrefix.isEmpty()
+                && (!nodePrefix.matches("[1-9][0-9]*") || nodePrefix.length() >= ACCOUNT_NUMBER_LENGTH)) {
+            throw new IllegalArgumentException("Invalid account number prefix: " + nodePrefix);
+        }
+
+        this.blockSize = blockSize;
+        this.nodePrefix = nodePrefix;
+        this.capacity = nodePrefix.isEmpty()
+                ? 10 * FIRST_ACCOUNT_NUMBER - FIRST_ACCOUNT_NUMBER
+                : pow10(ACCOUNT_NUMBER_LENGTH - nodePrefix.length());
+    }
+
+    @Override
+    public String allocate() {
+        lock.lock();
+        try {
+            if (next >= end) {
+                next = reserveBlock(blockSize);
+                end = next + blockSize;
+            }
+            return format(next++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 호출과 겹치지 않는 [start, start + blockSize) 구간을 예약
+     * @return 예약한 구간의 시작 순번(0부터 시작)
+     */
+    protected abstract long reserveBlock(int blockSize);
+
+    private String format(long sequence) {
+        if (sequence < 0 || sequence >= capacity) {
+            throw new AccountException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+        }
+
+        if (nodePrefix.isEmpty()) {
+            return Long.toString(FIRST_ACCOUNT_NUMBER + sequence);
+        }
+
+        String digits = Long.toString(sequence);
+        StringBuilder accountNumber = new StringBuilder(ACCOUNT_NUMBER_LENGTH).append(nodePrefix);
+        for (int i = nodePrefix.length() + digits.length(); i < ACCOUNT_NUMBER_LENGTH; i++) {
+            accountNumber.append('0');
+        }
+        return accountNumber.append(digits).toString();
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package com.oxahex.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한(LRU)과 ttl 이 있는 로컬 캐시 영역 하나(AccountCache, TransactionQueryCache 가 사용)
+ * <p> ttl 이 0 이면 크기 제한으로만 버림(바뀌지 않는 값).
+ * <p> 메트릭: account.cache.gets(cache, result=hit|miss), account.cache.evictions(cache, cause=size|expired|invalidated),
+ * account.cache.size(cache)
+ */
+class CacheRegion<K, V> {
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    CacheRegion(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.isZero() ? Long.MAX_VALUE : ttl.toNanos();
+        this.hits = counter(meterRegistry, "account.cache.gets", name, "result", "hit");
+        this.misses = counter(meterRegistry, "account.cache.gets", name, "result", "miss");
+        this.sizeEvictions = counter(meterRegistry, "account.cache.evictions", name, "cause", "size");
+        this.expiredEvictions = counter(meterRegistry, "account.cache.evictions", name, "cause", "expired");
+        this.invalidations = counter(meterRegistry, "account.cache.evictions", name, "cause", "invalidated");
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("account.cache.size", this, CacheRegion::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            expiredEvictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+    }
+
+    synchronized void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String cache, String key, String value) {
+        return Counter.builder(name)
+                .tag("cache", cache)
+                .tag(key, value)
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, long createdAt) {
+    }
+}
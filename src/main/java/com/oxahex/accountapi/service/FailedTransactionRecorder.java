@@ -0,0 +1,152 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.dto.FailedTransaction;
+import com.oxahex.accountapi.type.OverflowPolicy;
+import com.oxahex.accountapi.type.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실패 거래(F) 비동기 기록
+ * <p> 요청 스레드는 큐에 넣기만 하고, 백그라운드 writer 가 batch-size 만큼 모아서 한 트랜잭션으로 저장.
+ * 계좌 Lock 을 잡은 채로 실패 거래를 조회/저장하지 않아도 됨.
+ * <p> 큐가 가득 찬 경우는 account.failed-transaction.overflow 로 정함(drop: 버리고 카운터, block: 대기).
+ * 종료 시 큐에 남은 요청을 모두 저장한 뒤 멈춤.
+ * <p> 메트릭: account.failed-transaction.queue(큐 길이), account.failed-transaction.dropped(버린 건수, reason=overflow|error)
+ */
+@Slf4j
+@Service
+public class FailedTransactionRecorder {
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final TransactionService transactionService;
+    private final BlockingQueue<FailedTransaction> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter overflowCounter;
+    private final Counter errorCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public FailedTransactionRecorder(
+            TransactionService transactionService,
+            MeterRegistry meterRegistry,
+            @Value("${account.failed-transaction.queue-capacity:10000}") int queueCapacity,
+            @Value("${account.failed-transaction.batch-size:100}") int batchSize,
+            @Value("${account.failed-transaction.overflow:drop}") OverflowPolicy overflowPolicy
+    ) {
+        this.transactionService = transactionService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowCounter = droppedCounter(meterRegistry, "overflow");
+        this.errorCounter = droppedCounter(meterRegistry, "error");
+
+        Gauge.builder("account.failed-transaction.queue", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public void recordUse(String accountNumber, Long amount) {
+        record(new FailedTransaction(TransactionType.USE, accountNumber, amount, LocalDateTime.now()));
+    }
+
+    public void recordCancel(String accountNumber, Long amount) {
+        record(new FailedTransaction(TransactionType.CANCEL, accountNumber, amount, LocalDateTime.now()));
+    }
+
+    // 실패한 이체는 출금 계좌에만 남김
+    public void recordTransfer(String fromAccountNumber, Long amount) {
+        record(new FailedTransaction(TransactionType.TRANSFER_OUT, fromAccountNumber, amount, LocalDateTime.now()));
+    }
+
+    private void record(FailedTransaction failedTransaction) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(failedTransaction);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (queue.offer(failedTransaction)) {
+            return;
+        }
+
+        overflowCounter.increment();
+        log.warn("Failed transaction dropped. accountNumber: {}", failedTransaction.getAccountNumber());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "failed-transaction-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * writer 를 멈추고 큐에 남은 요청을 호출 스레드에서 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join();
+        }
+
+        List<FailedTransaction> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    private void drainLoop() {
+        List<FailedTransaction> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                FailedTransaction first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<FailedTransaction> batch) {
+        try {
+            transactionService.saveFailedTransactions(batch);
+        } catch (Exception e) {
+            errorCounter.increment(batch.size());
+            log.error("Failed to record {} failed transactions", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("account.failed-transaction.dropped")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.oxahex.accountapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * account.fault.enabled=true 일 때만 등록, 핸들러 진입(before-lock)과 Repository 호출(db) 앞에서 FaultInjector 를 부름
+ * <p> @AccountLock 바깥에서 감싸야 before-lock 지연이 Lock 대기(lock 단계)에 섞이지 않음.
+ * StageMetricsAspect(HIGHEST_PRECEDENCE)가 먼저 handlerEntered 를 부르므로 이 지연은 어느 단계에도 들지 않고 total 에만 더해짐.
+ * inside-lock 은 LockAopAspect 가 Lock 을 얻은 뒤 부름.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "account.fault.enabled", havingValue = "true")
+public class FaultInjectionAspect {
+    private final FaultInjector faultInjector;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object beforeLock(ProceedingJoinPoint pjp) throws Throwable {
+        faultInjector.inject(FaultInjector.BEFORE_LOCK);
+        return pjp.proceed();
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object db(ProceedingJoinPoint pjp) throws Throwable {
+        faultInjector.inject(FaultInjector.DB);
+        return pjp.proceed();
+    }
+}
@@ -0,0 +1,137 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 지연/오류 주입(account.fault), 기본은 꺼져 있음
+ * <p> 규칙 형식: "METHOD /pattern 단계 지연[~최대 지연] [fail=비율:ERROR_CODE]", endpoint 자리에 * 를 쓰면 전체.
+ * 단계는 before-lock(핸들러 진입, Lock 전), inside-lock(Lock 획득 후, lock 모드만), db(Repository 호출마다).
+ * <p> 예: "POST /transaction/use inside-lock 5s", "* db 1ms~10ms fail=0.01:INTERNAL_SERVER_ERROR"
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+    public static final String BEFORE_LOCK = "before-lock";
+    public static final String INSIDE_LOCK = "inside-lock";
+    public static final String DB = "db";
+
+    private static final String ANY_ENDPOINT = "*";
+
+    private final boolean enabled;
+    private final List<Rule> rules;
+
+    public FaultInjector(
+            @Value("${account.fault.enabled:false}") boolean enabled,
+            @Value("${account.fault.rules:}") List<String> rules
+    ) {
+        this.enabled = enabled;
+        this.rules = rules.stream()
+                .filter(rule -> !rule.isBlank())
+                .map(Rule::parse)
+                .toList();
+
+        if (enabled) {
+            log.warn("Fault injection enabled. rules: {}", rules);
+        }
+    }
+
+    /**
+     * 현재 요청의 endpoint 와 단계에 맞는 규칙을 모두 적용(지연 후 비율만큼 실패)
+     */
+    public void inject(String stage) {
+        if (!enabled || rules.isEmpty()) {
+            return;
+        }
+
+        String endpoint = currentEndpoint();
+        for (Rule rule : rules) {
+            if (rule.matches(endpoint, stage)) {
+                rule.apply();
+            }
+        }
+    }
+
+    // 요청 스레드가 아니면(비동기 API 의 풀 스레드 등) * 규칙만 적용
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? null : request.getMethod() + " " + pattern;
+    }
+
+    private record Rule(
+            String endpoint, String stage, Duration minDelay, Duration maxDelay, double failRate, ErrorCode failCode) {
+
+        static Rule parse(String rule) {
+            String[] tokens = rule.trim().split("\\s+");
+            int index = ANY_ENDPOINT.equals(tokens[0]) ? 1 : 2;
+            if (tokens.length < index + 2) {
+                throw new IllegalArgumentException("Invalid fault rule: " + rule);
+            }
+            String endpoint = index == 1 ? ANY_ENDPOINT : tokens[0] + " " + tokens[1];
+
+            String stage = tokens[index++];
+            if (!List.of(BEFORE_LOCK, INSIDE_LOCK, DB).contains(stage)) {
+                throw new IllegalArgumentException("Unknown fault stage: " + stage);
+            }
+
+            String[] delays = tokens[index++].split("~");
+            Duration minDelay = DurationStyle.detectAndParse(delays[0]);
+            Duration maxDelay = delays.length > 1 ? DurationStyle.detectAndParse(delays[1]) : minDelay;
+
+            double failRate = 0;
+            ErrorCode failCode = null;
+            if (index < tokens.length) {
+                if (!tokens[index].startsWith("fail=") || !tokens[index].contains(":")) {
+                    throw new IllegalArgumentException("Invalid fault rule: " + rule);
+                }
+                String[] fail = tokens[index].substring("fail=".length()).split(":");
+                if (fail.length != 2 || fail[0].isEmpty()) {
+                    throw new IllegalArgumentException("Invalid fault rule: " + rule);
+                }
+                failRate = Double.parseDouble(fail[0]);
+                failCode = ErrorCode.valueOf(fail[1]);
+            }
+            return new Rule(endpoint, stage, minDelay, maxDelay, failRate, failCode);
+        }
+
+        boolean matches(String endpoint, String stage) {
+            return this.stage.equals(stage)
+                    && (ANY_ENDPOINT.equals(this.endpoint) || this.endpoint.equals(endpoint));
+        }
+
+        void apply() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = maxDelay.equals(minDelay) ? minDelay.toNanos()
+                    : random.nextLong(minDelay.toNanos(), maxDelay.toNanos() + 1);
+            if (delay > 0) {
+                try {
+                    Thread.sleep(Duration.ofNanos(delay).toMillis(), (int) (delay % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (failCode != null && random.nextDouble() < failRate) {
+                throw new AccountException(failCode);
+            }
+        }
+    }
+}
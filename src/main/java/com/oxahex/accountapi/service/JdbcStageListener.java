@@ -0,0 +1,38 @@
+package com.oxahex.accountapi.service;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 요청 trace(StageMetrics)에 JDBC 문장 수와 실행 시간을 더함
+ * <p> hibernate.session.events.auto 로 세션마다 생성되므로 빈이 아니고, 세션은 요청 스레드에서만 쓰임.
+ * 실행 시간은 문장 실행과 batch 실행(커밋 시 flush)만 포함하고 커넥션 획득은 제외.
+ */
+public class JdbcStageListener implements SessionEventListener {
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        StageMetrics.statementPrepared();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        StageMetrics.jdbcExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        StageMetrics.jdbcExecuted(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,108 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 안에서만 유효한 계좌 Lock
+ * <p> 계좌마다 Lock 객체를 만들지 않고, 고정 크기 ReentrantLock 배열에 계좌 번호 해시로 매핑(striping).
+ * 서로 다른 계좌가 같은 stripe 에 걸리면 함께 대기할 수 있으나, stripe 수를 늘리면 확률이 줄어듦.
+ * <p> 여러 계좌(이체, 배치)는 계좌 번호가 아닌 stripe 순서로 잡음. 계좌 번호 순서로 잡으면 서로 다른 계좌 쌍이
+ * 같은 stripe 쌍에 반대 순서로 걸려 교착될 수 있음.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "account.lock.provider", havingValue = "local")
+public class LocalLockService implements AccountLockProvider {
+    private static final long WAIT_TIME_MILLIS = 1000L;
+
+    private final ReentrantLock[] stripes;
+
+    public LocalLockService(@Value("${account.lock.local.stripes:1024}") int stripes) {
+        // 인덱스를 비트 연산으로 구하기 위해 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void lock(String accountNumber) {
+        log.debug("Trying local lock for accountNumber: {}", accountNumber);
+
+        try {
+            if (!getLock(accountNumber).tryLock(WAIT_TIME_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.error("Lock acquisition failed.");
+                throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        }
+    }
+
+    @Override
+    public void unlock(String accountNumber) {
+        log.debug("Unlock local lock for accountNumber: {}", accountNumber);
+        getLock(accountNumber).unlock();
+    }
+
+    @Override
+    public void lockAll(Collection<String> accountNumbers) {
+        log.debug("Trying local lock for {} accounts", accountNumbers.size());
+        List<ReentrantLock> locked = new ArrayList<>();
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_TIME_MILLIS);
+            for (int index : getStripeIndexes(accountNumbers)) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.error("Lock acquisition failed.");
+                    throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                }
+                locked.add(lock);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked.forEach(ReentrantLock::unlock);
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } catch (RuntimeException e) {
+            locked.forEach(ReentrantLock::unlock);
+            throw e;
+        }
+    }
+
+    @Override
+    public void unlockAll(Collection<String> accountNumbers) {
+        log.debug("Unlock local lock for {} accounts", accountNumbers.size());
+        getStripeIndexes(accountNumbers).descendingSet().forEach(index -> stripes[index].unlock());
+    }
+
+    // 같은 stripe 에 걸린 계좌는 한 번만 잡음
+    private TreeSet<Integer> getStripeIndexes(Collection<String> accountNumbers) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        accountNumbers.forEach(accountNumber -> indexes.add(getStripeIndex(accountNumber)));
+        return indexes;
+    }
+
+    private ReentrantLock getLock(String accountNumber) {
+        return stripes[getStripeIndex(accountNumber)];
+    }
+
+    private int getStripeIndex(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
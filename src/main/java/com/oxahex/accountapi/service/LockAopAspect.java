@@ -1,19 +1,31 @@
 package com.oxahex.accountapi.service;
 
 import com.oxahex.accountapi.aop.AccountLockIdInterface;
+import com.oxahex.accountapi.aop.AccountLockIdsInterface;
+import com.oxahex.accountapi.exception.AccountException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * account.concurrency.mode=lock(기본값)일 때만 등록
+ * <p> Lock 대기/보유 시간과 거절은 LockMetrics 로 기록.
+ * <p> Lock 을 얻은 뒤 FaultInjector 의 inside-lock 지연/오류를 적용(기본은 꺼져 있음).
+ */
 @Aspect
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.concurrency.mode", havingValue = "lock", matchIfMissing = true)
 public class LockAopAspect {
-    private final LockService lockService;
+    private final AccountLockProvider accountLockProvider;
+    private final LockMetrics lockMetrics;
+    private final StageMetrics stageMetrics;
+    private final FaultInjector faultInjector;
 
     /**
      * pjp 동작 전 후에 Lock 취득 시도, 취득 여부와 관계 없이 Lock을 해제 처리
@@ -25,13 +37,53 @@ public class LockAopAspect {
     ) throws Throwable {
 
         // Lock 취득 시도
-        lockService.lock(request.getAccountNumber());
+        long start = System.nanoTime();
+        try {
+            accountLockProvider.lock(request.getAccountNumber());
+        } catch (AccountException e) {
+            lockMetrics.rejected(request.getAccountNumber());
+            throw e;
+        }
+        long acquired = System.nanoTime();
+        lockMetrics.acquired(request.getAccountNumber(), acquired - start);
+        stageMetrics.record("lock", acquired - start);
 
         try {
+            faultInjector.inject(FaultInjector.INSIDE_LOCK);
             return  pjp.proceed();
         } finally {
             // Lock 해제
-            lockService.unlock(request.getAccountNumber());
+            accountLockProvider.unlock(request.getAccountNumber());
+            lockMetrics.held(System.nanoTime() - acquired);
+        }
+    }
+
+    /**
+     * 여러 계좌를 다루는 요청(배치)은 대상 계좌 Lock 을 한 번에 모두 잡고 처리
+     */
+    @Around("@annotation(com.oxahex.accountapi.aop.AccountLock) && args(request)")
+    public Object aroundBatchMethod(
+            ProceedingJoinPoint pjp,
+            AccountLockIdsInterface request
+    ) throws Throwable {
+
+        long start = System.nanoTime();
+        try {
+            accountLockProvider.lockAll(request.getAccountNumbers());
+        } catch (AccountException e) {
+            lockMetrics.rejectedAll();
+            throw e;
+        }
+        long acquired = System.nanoTime();
+        lockMetrics.acquiredAll(acquired - start);
+        stageMetrics.record("lock", acquired - start);
+
+        try {
+            faultInjector.inject(FaultInjector.INSIDE_LOCK);
+            return pjp.proceed();
+        } finally {
+            accountLockProvider.unlockAll(request.getAccountNumbers());
+            lockMetrics.heldAll(System.nanoTime() - acquired);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.oxahex.accountapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 계좌 Lock 메트릭과 경합이 잦은 계좌 집계
+ * <p> 메트릭(provider=redis|local, scope=single|batch):
+ * <ul>
+ *     <li>account.lock.wait: Lock 을 얻기까지 대기 시간(histogram)</li>
+ *     <li>account.lock.hold: Lock 을 얻고 풀기까지 시간(histogram), lease time 을 정할 때 참고</li>
+ *     <li>account.lock.rejections: 대기 시간 안에 얻지 못함(ACCOUNT_TRANSACTION_LOCK)</li>
+ *     <li>account.lock.errors: Redis 오류(operation=lock|unlock)</li>
+ *     <li>account.lock.lease-expired: 처리 중에 lease 가 지나 이미 풀린 Lock 을 풀려고 함</li>
+ * </ul>
+ * 계좌 번호는 태그로 달지 않고(카디널리티), 대기가 contended-wait 이상이었거나 거절/lease 만료가 있었던 계좌만
+ * 최근 max-accounts 개를 LRU 로 보관해 /actuator/accountlocks 로 보여줌.
+ */
+@Component
+public class LockMetrics {
+    private final MeterRegistry meterRegistry;
+    private final String provider;
+    private final long contendedWaitNanos;
+    private final Map<String, Contention> contentions;
+
+    public LockMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${account.lock.provider:redis}") String provider,
+            @Value("${account.lock.metrics.contended-wait:100ms}") Duration contendedWait,
+            @Value("${account.lock.metrics.max-accounts:1000}") int maxAccounts
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.provider = provider;
+        this.contendedWaitNanos = contendedWait.toNanos();
+        this.contentions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Contention> eldest) {
+                return size() > maxAccounts;
+            }
+        };
+    }
+
+    public void acquired(String accountNumber, long waitNanos) {
+        timer("account.lock.wait", "single").record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos >= contendedWaitNanos) {
+            contention(accountNumber, Contention::contended);
+        }
+    }
+
+    public void acquiredAll(long waitNanos) {
+        timer("account.lock.wait", "batch").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void held(long holdNanos) {
+        timer("account.lock.hold", "single").record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void heldAll(long holdNanos) {
+        timer("account.lock.hold", "batch").record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rejected(String accountNumber) {
+        counter("account.lock.rejections", "scope", "single").increment();
+        contention(accountNumber, Contention::rejected);
+    }
+
+    public void rejectedAll() {
+        counter("account.lock.rejections", "scope", "batch").increment();
+    }
+
+    public void error(String operation) {
+        counter("account.lock.errors", "operation", operation).increment();
+    }
+
+    public void leaseExpired(String accountNumber) {
+        counter("account.lock.lease-expired", "scope", "single").increment();
+        contention(accountNumber, Contention::leaseExpired);
+    }
+
+    public void leaseExpiredAll() {
+        counter("account.lock.lease-expired", "scope", "batch").increment();
+    }
+
+    /**
+     * 경합(대기 초과 + 거절 + lease 만료)이 많은 순으로 limit 개
+     */
+    public List<Contention> hotAccounts(int limit) {
+        List<Contention> snapshot = new ArrayList<>();
+        synchronized (contentions) {
+            contentions.values().forEach(contention -> snapshot.add(contention.copy()));
+        }
+        snapshot.sort(Comparator.comparingLong(Contention::getTotal).reversed());
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    private void contention(String accountNumber, Consumer<Contention> update) {
+        synchronized (contentions) {
+            update.accept(contentions.computeIfAbsent(accountNumber, Contention::new));
+        }
+    }
+
+    private Timer timer(String name, String scope) {
+        return Timer.builder(name)
+                .tag("provider", provider)
+                .tag("scope", scope)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(15))   // lease time
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String... tags) {
+        return Counter.builder(name)
+                .tag("provider", provider)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Contention {
+        private final String accountNumber;
+        private long contended;
+        private long rejected;
+        private long leaseExpired;
+
+        Contention(String accountNumber) {
+            this.accountNumber = accountNumber;
+        }
+
+        public long getTotal() {
+            return contended + rejected + leaseExpired;
+        }
+
+        private void contended() {
+            contended++;
+        }
+
+        private void rejected() {
+            rejected++;
+        }
+
+        private void leaseExpired() {
+            leaseExpired++;
+        }
+
+        private Contention copy() {
+            return new Contention(accountNumber, contended, rejected, leaseExpired);
+        }
+    }
+}
@@ -1,43 +1,222 @@
 package com.oxahex.accountapi.service;
 
 import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.jfr.AccountLockEvent;
+import com.oxahex.accountapi.jfr.AccountUnlockEvent;
 import com.oxahex.accountapi.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Redisson 분산 Lock(기본 AccountLockProvider)
+ * <p> Redis 오류와 lease 만료 후 해제는 LockMetrics 로 기록. Lock 획득 중 Redis 오류는 ACCOUNT_TRANSACTION_LOCK 으로 실패시킴.
+ * 처리가 leaseTime(15초)보다 길어져 Lock 이 먼저 풀린 경우, 해제 시 예외를 내지 않고 경고만 남김(처리는 이미 끝남).
+ * <p> 동기 획득, 해제는 JFR 이벤트(AccountLockEvent, AccountUnlockEvent)로도 남김.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class LockService {
+@ConditionalOnProperty(name = "account.lock.provider", havingValue = "redis", matchIfMissing = true)
+public class LockService implements AsyncAccountLockProvider {
     private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
 
+    @Override
     public void lock(String accountNumber) {
 
         // 계좌번호를 Lock Key로 사용
         RLock lock = redissonClient.getLock(getLockKey(accountNumber));
         log.debug("Trying lock for accountNumber: {}", accountNumber);
 
+        AccountLockEvent event = new AccountLockEvent();
+        event.begin();
         try {
             boolean isLock = lock.tryLock(1, 15, TimeUnit.SECONDS);
+            event.acquired = isLock;
             if (!isLock) {
                 log.error("Lock acquisition failed.");
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
             }
         } catch (AccountException e) {
             throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lockMetrics.error("lock");
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
         } catch (Exception e) {
+            // lockAsync 와 같이 실패로 처리(Lock 을 얻은 것처럼 진행하면 해제 시 lease 만료로 잘못 집계됨)
+            lockMetrics.error("lock");
             log.error("Redis lock failed", e);
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } finally {
+            commit(event, accountNumber, 1);
         }
     }
 
+    @Override
     public void unlock(String accountNumber) {
         log.debug("Unlock for accountNumber: {}", accountNumber);
-        redissonClient.getLock(getLockKey(accountNumber)).unlock();
+
+        AccountUnlockEvent event = new AccountUnlockEvent();
+        event.begin();
+        try {
+            redissonClient.getLock(getLockKey(accountNumber)).unlock();
+        } catch (RuntimeException e) {
+            if (!isLeaseExpired(e)) {
+                lockMetrics.error("unlock");
+                throw e;
+            }
+            event.leaseExpired = true;
+            lockMetrics.leaseExpired(accountNumber);
+            log.warn("Lock lease expired before unlock. accountNumber: {}", accountNumber);
+        } finally {
+            commit(event, accountNumber, 1);
+        }
+    }
+
+    /**
+     * RedissonMultiLock 으로 여러 계좌 Lock 을 한 번에 획득
+     * <p> 하나라도 실패하면 얻은 Lock 을 모두 풀고 남은 대기 시간 안에서 다시 시도함.
+     * 계좌 수가 많으면 획득에 걸리는 시간도 늘어나므로 대기 시간을 계좌당 1ms(최소 1초)로 잡음.
+     * <p> Redis 오류나 인터럽트도 ACCOUNT_TRANSACTION_LOCK 으로 실패시킴.
+     */
+    @Override
+    public void lockAll(Collection<String> accountNumbers) {
+        RLock lock = getMultiLock(accountNumbers);
+        log.debug("Trying multi lock for {} accounts", accountNumbers.size());
+
+        AccountLockEvent event = new AccountLockEvent();
+        event.begin();
+        try {
+            boolean isLock = lock.tryLock(
+                    Math.max(1000L, accountNumbers.size()), 15_000L, TimeUnit.MILLISECONDS);
+            event.acquired = isLock;
+            if (!isLock) {
+                log.error("Multi lock acquisition failed.");
+                throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+            }
+        } catch (AccountException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lockMetrics.error("lock");
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } catch (Exception e) {
+            // Lock 없이 여러 계좌를 바꾸지 않도록 실패로 처리
+            lockMetrics.error("lock");
+            log.error("Redis multi lock failed", e);
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } finally {
+            commit(event, null, accountNumbers.size());
+        }
+    }
+
+    @Override
+    public void unlockAll(Collection<String> accountNumbers) {
+        log.debug("Unlock multi lock for {} accounts", accountNumbers.size());
+
+        AccountUnlockEvent event = new AccountUnlockEvent();
+        event.begin();
+        try {
+            getMultiLock(accountNumbers).unlock();
+        } catch (RuntimeException e) {
+            if (!isLeaseExpired(e)) {
+                lockMetrics.error("unlock");
+                throw e;
+            }
+            event.leaseExpired = true;
+            lockMetrics.leaseExpiredAll();
+            log.warn("Multi lock lease expired before unlock. accounts: {}", accountNumbers.size());
+        } finally {
+            commit(event, null, accountNumbers.size());
+        }
+    }
+
+    /**
+     * RLockAsync 로 대기, Redisson 이 unlock 알림(pub/sub)과 타이머로 완료시키므로 기다리는 동안 스레드를 쓰지 않음
+     */
+    @Override
+    public CompletableFuture<Void> lockAsync(String accountNumber, long ownerId) {
+        log.debug("Trying async lock for accountNumber: {}", accountNumber);
+
+        return redissonClient.getLock(getLockKey(accountNumber))
+                .tryLockAsync(1, 15, TimeUnit.SECONDS, ownerId)
+                .toCompletableFuture()
+                .handle((isLock, e) -> {
+                    // Redis 오류도 동기 lock 과 같이 ACCOUNT_TRANSACTION_LOCK 으로 완료
+                    if (e != null) {
+                        lockMetrics.error("lock");
+                        log.error("Redis async lock failed", e);
+                        throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                    }
+                    if (!isLock) {
+                        log.error("Async lock acquisition failed.");
+                        throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(String accountNumber, long ownerId) {
+        log.debug("Async unlock for accountNumber: {}", accountNumber);
+        return redissonClient.getLock(getLockKey(accountNumber))
+                .unlockAsync(ownerId)
+                .toCompletableFuture()
+                .whenComplete((ignored, e) -> {
+                    if (e == null) {
+                        return;
+                    }
+                    if (isLeaseExpired(e)) {
+                        lockMetrics.leaseExpired(accountNumber);
+                    } else {
+                        lockMetrics.error("unlock");
+                    }
+                });
+    }
+
+    // 녹화 중이 아니면 shouldCommit 이 false 라 필드도 채우지 않음
+    private static void commit(AccountLockEvent event, String accountNumber, int accounts) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.accountNumber = accountNumber;
+            event.accounts = accounts;
+            event.commit();
+        }
+    }
+
+    private static void commit(AccountUnlockEvent event, String accountNumber, int accounts) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.accountNumber = accountNumber;
+            event.accounts = accounts;
+            event.commit();
+        }
+    }
+
+    private RLock getMultiLock(Collection<String> accountNumbers) {
+        return redissonClient.getMultiLock(new TreeSet<>(accountNumbers).stream()
+                .map(accountNumber -> redissonClient.getLock(getLockKey(accountNumber)))
+                .toArray(RLock[]::new));
+    }
+
+    // 소유하지 않은(이미 lease 가 지나 풀린) Lock 을 풀면 Redisson 이 IllegalMonitorStateException 을 냄
+    private static boolean isLeaseExpired(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalMonitorStateException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static String getLockKey(String accountNumber) {
@@ -0,0 +1,80 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * optimistic 모드에서 @OptimisticRetry 메서드를 버전 충돌 시 재시도
+ * <p> 충돌은 커밋 시점에 드러나므로 트랜잭션 바깥(가장 높은 우선순위)에서 감싸야 재시도마다 새 트랜잭션이 열림.
+ * <p> 재시도 간격은 base * 2^(n-1) 을 상한으로 하는 full jitter, 재시도 예산을 다 쓰면 ACCOUNT_TRANSACTION_LOCK.
+ * <p> 메트릭: account.optimistic.retries(재시도 횟수), account.optimistic.exhausted(예산 소진 횟수)
+ */
+@Aspect
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "account.concurrency.mode", havingValue = "optimistic")
+public class OptimisticRetryAspect {
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${account.concurrency.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${account.concurrency.optimistic.backoff-millis:5}") long backoffMillis,
+            @Value("${account.concurrency.optimistic.max-backoff-millis:100}") long maxBackoffMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(com.oxahex.accountapi.aop.OptimisticRetry)")
+    public Object aroundMethod(ProceedingJoinPoint pjp) throws Throwable {
+        String method = pjp.getSignature().getName();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return pjp.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    counter("account.optimistic.exhausted", method).increment();
+                    log.warn("Optimistic retry budget exhausted. method: {}, attempts: {}", method, attempt);
+                    throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                }
+
+                counter("account.optimistic.retries", method).increment();
+                log.debug("Optimistic lock conflict. method: {}, attempt: {}", method, attempt);
+                Thread.sleep(backoff(attempt));
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private Counter counter(String name, String method) {
+        return Counter.builder(name)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.oxahex.accountapi.service;
+
+import org.redisson.api.RedissonClient;
+
+/**
+ * Redis 카운터(INCRBY)로 번호 구간을 예약
+ * <p> nodePrefix 별로 카운터 키를 따로 씀.
+ */
+public class RedisAccountNumberAllocator extends BlockAccountNumberAllocator {
+    private final RedissonClient redissonClient;
+    private final String counterKey;
+
+    public RedisAccountNumberAllocator(RedissonClient redissonClient, int blockSize, String nodePrefix) {
+        super(blockSize, nodePrefix);
+        this.redissonClient = redissonClient;
+        this.counterKey = "ACNO:" + nodePrefix;
+    }
+
+    @Override
+    protected long reserveBlock(int blockSize) {
+        return redissonClient.getAtomicLong(counterKey).addAndGet(blockSize) - blockSize;
+    }
+}
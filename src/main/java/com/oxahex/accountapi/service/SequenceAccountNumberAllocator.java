@@ -0,0 +1,23 @@
+package com.oxahex.accountapi.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * DB 시퀀스(account_number_seq)로 번호 구간을 예약
+ * <p> 시퀀스 값 하나가 구간 하나(시퀀스 값 * blockSize 부터 blockSize 개)를 뜻하므로,
+ * 운영 중에 blockSize 를 줄이면 이미 발급한 구간과 겹칠 수 있음(늘리는 것은 안전).
+ */
+public class SequenceAccountNumberAllocator extends BlockAccountNumberAllocator {
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceAccountNumberAllocator(JdbcTemplate jdbcTemplate, int blockSize, String nodePrefix) {
+        super(blockSize, nodePrefix);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected long reserveBlock(int blockSize) {
+        Long block = jdbcTemplate.queryForObject("select next value for account_number_seq", Long.class);
+        return block * blockSize;
+    }
+}
@@ -0,0 +1,266 @@
+package com.oxahex.accountapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 단계별 소요 시간(account.request.stage)
+ * <p> 요청 스레드에 trace 를 두고 단계마다 시간을 모았다가, 요청이 끝나면 결과(result=S|F, error=오류 코드)와 함께
+ * endpoint, stage 태그로 기록. 결과는 요청이 끝나야 알 수 있으므로 단계를 바로 기록하지 않음.
+ * <p> 단계: request(역직렬화, @Valid) - lock - user-load - account-load - validation - transaction-save
+ * - commit(flush 포함, 실제 INSERT/UPDATE 는 여기서 실행) - response(응답 직렬화), 전체는 total.
+ * <p> 비동기 API 는 컨트롤러가 future 를 돌려준 뒤 비동기 디스패치까지를 async 단계로 두고, 디스패치에서 마저 기록.
+ * 오류 코드는 GlobalExceptionHandler 가 만든 응답 기준(@Valid 실패처럼 컨트롤러에 닿지 않은 요청 포함).
+ * <p> trace 가 없는 스레드(배치 writer, 비동기 API 의 풀 스레드, 테스트)에서는 측정하지 않고 그대로 실행.
+ * 백분위(p50/p90/p99/p999)는 HdrHistogram 기반이라 클라이언트에서 계산되고, /actuator/latency 로 볼 수 있음.
+ * <p> JDBC 실행 시간(db)과 문장 수는 JdbcStageListener(Hibernate 세션 이벤트)가 모으고,
+ * 요청마다 단계별 시간을 Server-Timing 헤더 값으로도 돌려줌(StageMetricsFilter).
+ */
+@Component
+public class StageMetrics {
+    public static final String METRIC = "account.request.stage";
+    public static final String SUCCESS = "S";
+    public static final String FAILURE = "F";
+    private static final String NO_ERROR = "NONE";
+
+    private static final ThreadLocal<Trace> TRACE = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void begin() {
+        TRACE.set(new Trace(System.nanoTime()));
+    }
+
+    /**
+     * 모은 단계를 기록하고 trace 를 지움
+     * @return Server-Timing 헤더 값(trace 가 없으면 null)
+     */
+    public String finish(String endpoint) {
+        Trace trace = TRACE.get();
+        TRACE.remove();
+        if (trace == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (trace.handlerReturnedAt > 0) {
+            trace.add("response", now - trace.handlerReturnedAt);
+        }
+        if (trace.statements > 0) {
+            trace.add("db", trace.dbNanos);
+        }
+        trace.add("total", now - trace.startedAt);
+
+        String result = trace.error == null ? SUCCESS : FAILURE;
+        String error = trace.error == null ? NO_ERROR : trace.error;
+        for (int i = 0; i < trace.stages.size(); i++) {
+            timer(endpoint, trace.stages.get(i), result, error)
+                    .record(trace.nanos.get(i), TimeUnit.NANOSECONDS);
+        }
+        return serverTiming(trace);
+    }
+
+    /**
+     * 기록하지 않고 trace 를 지움(컨트롤러에 매핑되지 않은 요청)
+     */
+    public void discard() {
+        TRACE.remove();
+    }
+
+    /**
+     * 비동기로 넘어간 요청: 이 스레드에서 trace 를 떼어 돌려줌(비동기 디스패치에서 resume)
+     */
+    public Object suspend() {
+        Trace trace = TRACE.get();
+        TRACE.remove();
+        return trace;
+    }
+
+    /**
+     * 비동기 디스패치: suspend 한 trace 를 이어 받고, 컨트롤러 종료부터 여기까지를 async 단계로
+     */
+    public void resume(Object suspended) {
+        if (!(suspended instanceof Trace trace)) {
+            return;
+        }
+
+        if (trace.handlerReturnedAt > 0) {
+            long now = System.nanoTime();
+            trace.add("async", now - trace.handlerReturnedAt);
+            trace.handlerReturnedAt = now;
+        }
+        TRACE.set(trace);
+    }
+
+    /**
+     * 컨트롤러 메서드 진입: 요청 시작부터 여기까지를 request 단계로
+     */
+    public void handlerEntered() {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.add("request", System.nanoTime() - trace.startedAt);
+        }
+    }
+
+    /**
+     * 컨트롤러 메서드 종료: 여기부터 요청 종료까지를 response 단계로
+     */
+    public void handlerReturned(String error) {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.handlerReturnedAt = System.nanoTime();
+            trace.error = error;
+        }
+    }
+
+    /**
+     * 예외를 오류 응답으로 바꿈(GlobalExceptionHandler): 클라이언트가 받은 오류 코드로 결과를 기록
+     */
+    public static void errorHandled(String error) {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.error = error;
+        }
+    }
+
+    public <T> T time(String stage, Supplier<T> work) {
+        Trace trace = TRACE.get();
+        if (trace == null) {
+            return work.get();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            trace.add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void time(String stage, Runnable work) {
+        time(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public void record(String stage, long nanos) {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.add(stage, nanos);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋(flush 포함)을 commit 단계로
+     */
+    public void timeCommit() {
+        Trace trace = TRACE.get();
+        if (trace == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (start > 0) {
+                    trace.add("commit", System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    /**
+     * JDBC 문장 준비(JdbcStageListener)
+     */
+    static void statementPrepared() {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.statements++;
+        }
+    }
+
+    /**
+     * JDBC 실행 시간(JdbcStageListener), 여러 단계에 걸쳐 있으므로 따로 모아서 db 단계로 기록
+     */
+    static void jdbcExecuted(long nanos) {
+        Trace trace = TRACE.get();
+        if (trace != null) {
+            trace.dbNanos += nanos;
+        }
+    }
+
+    // 예: request;dur=0.4, lock;dur=12.1, user-load;dur=0.8, ..., db;dur=3.2;desc="5 statements", total;dur=20.3
+    // 같은 단계가 여러 번이면(재시도) 합산
+    private static String serverTiming(Trace trace) {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        for (int i = 0; i < trace.stages.size(); i++) {
+            durations.merge(trace.stages.get(i), trace.nanos.get(i), Long::sum);
+        }
+
+        StringJoiner header = new StringJoiner(", ");
+        durations.forEach((stage, nanos) -> {
+            String metric = String.format(Locale.ROOT, "%s;dur=%.1f", stage, nanos / 1_000_000.0);
+            if ("db".equals(stage)) {
+                metric += ";desc=\"" + trace.statements + " statements\"";
+            }
+            header.add(metric);
+        });
+        return header.toString();
+    }
+
+    private Timer timer(String endpoint, String stage, String result, String error) {
+        return Timer.builder(METRIC)
+                .tag("endpoint", endpoint)
+                .tag("stage", stage)
+                .tag("result", result)
+                .tag("error", error)
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static class Trace {
+        private final long startedAt;
+        private final List<String> stages = new ArrayList<>();
+        private final List<Long> nanos = new ArrayList<>();
+        private long handlerReturnedAt;
+        private String error;
+        private int statements;
+        private long dbNanos;
+
+        private Trace(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private void add(String stage, long elapsed) {
+            stages.add(stage);
+            nanos.add(elapsed);
+        }
+    }
+}
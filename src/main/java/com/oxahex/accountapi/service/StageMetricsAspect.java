@@ -0,0 +1,40 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 메서드의 시작/끝과 결과(오류 코드)를 StageMetrics trace 에 표시
+ * <p> @AccountLock 보다 바깥에서 감싸야 Lock 대기가 request 단계에 섞이지 않음.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StageMetricsAspect {
+    private final StageMetrics stageMetrics;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object aroundHandler(ProceedingJoinPoint pjp) throws Throwable {
+        stageMetrics.handlerEntered();
+
+        try {
+            Object result = pjp.proceed();
+            stageMetrics.handlerReturned(null);
+            return result;
+        } catch (AccountException e) {
+            stageMetrics.handlerReturned(e.getErrorCode().name());
+            throw e;
+        } catch (Throwable e) {
+            stageMetrics.handlerReturned(ErrorCode.INTERNAL_SERVER_ERROR.name());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.oxahex.accountapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.dto.Statement;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.repository.AccountRepository;
+import com.oxahex.accountapi.repository.AccountUserRepository;
+import com.oxahex.accountapi.repository.TransactionRepository;
+import com.oxahex.accountapi.type.ErrorCode;
+import com.oxahex.accountapi.type.StatementFormat;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 거래 명세서 내보내기(정산 대사용)
+ * <p> 거래 내역을 List 로 모으지 않고 Stream 으로 fetch size 만큼씩 읽어서 바로 쓰고,
+ * 쓴 엔티티는 영속성 컨텍스트에서 떼어내므로 명세서 크기와 관계없이 메모리 사용량이 일정.
+ * <p> 응답을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 대상 확인(validate*)은 먼저 호출할 것.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementService {
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void validateAccount(String accountNumber, Statement.Request request) {
+        validateRange(request);
+        if (!accountRepository.existsByAccountNumber(accountNumber)) {
+            throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+    }
+
+    public void validateUser(Long userId, Statement.Request request) {
+        validateRange(request);
+        if (!accountUserRepository.existsById(userId)) {
+            throw new AccountException(ErrorCode.USER_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 계좌의 거래 내역을 오래된 순으로 씀
+     * @return 쓴 거래 수
+     */
+    @Transactional(readOnly = true)
+    public long writeAccountStatement(String accountNumber, Statement.Request request, OutputStream out)
+            throws IOException {
+
+        try (Stream<Transaction> transactions = transactionRepository.streamStatementByAccountNumber(
+                accountNumber, request.getFrom(), request.getTo())) {
+            return write(transactions, request.getFormat(), out);
+        }
+    }
+
+    /**
+     * 유저의 모든 계좌 거래 내역을 오래된 순으로 씀
+     * @return 쓴 거래 수
+     */
+    @Transactional(readOnly = true)
+    public long writeUserStatement(Long userId, Statement.Request request, OutputStream out)
+            throws IOException {
+
+        try (Stream<Transaction> transactions = transactionRepository.streamStatementByUserId(
+                userId, request.getFrom(), request.getTo())) {
+            return write(transactions, request.getFormat(), out);
+        }
+    }
+
+    private long write(Stream<Transaction> transactions, StatementFormat format, OutputStream out)
+            throws IOException {
+
+        // out 은 응답 스트림이므로 닫지 않고 flush 만
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == StatementFormat.CSV) {
+            writer.write(Statement.Line.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<Transaction> iterator = transactions.iterator();
+        while (iterator.hasNext()) {
+            Transaction transaction = iterator.next();
+            Statement.Line line = Statement.Line.from(transaction);
+            entityManager.detach(transaction);
+
+            writer.write(format == StatementFormat.CSV
+                    ? line.toCsv()
+                    : objectMapper.writeValueAsString(line));
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+
+        log.info("Statement exported: {} transactions ({})", count, format);
+        return count;
+    }
+
+    private static void validateRange(Statement.Request request) {
+        if (request.getFrom() != null && request.getTo() != null
+                && !request.getFrom().isBefore(request.getTo())) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
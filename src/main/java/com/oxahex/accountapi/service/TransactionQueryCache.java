@@ -0,0 +1,96 @@
+package com.oxahex.accountapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oxahex.accountapi.dto.QueryTransactionResponse;
+import com.oxahex.accountapi.dto.TransactionDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 거래 조회(GET /transaction/{transactionId}) 응답 캐시
+ * <p> 거래 내역은 저장 후 바뀌지 않으므로 직렬화한 QueryTransactionResponse(JSON) 를 거래 ID 로 담아 두고,
+ * 적중하면 JPA 조회와 직렬화 없이 그대로 응답. ttl 없이 max-size 를 넘으면 LRU 로 버림.
+ * <p> saveAndGetTransaction 이 저장한 거래는 커밋 후에 바로 담기고(롤백되면 담지 않음), 나머지는 첫 조회 때 담김.
+ * <p> 메트릭은 CacheRegion 참고(cache=transactions).
+ */
+@Slf4j
+@Component
+public class TransactionQueryCache {
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final CacheRegion<String, byte[]> responses;
+
+    public TransactionQueryCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${account.cache.enabled:true}") boolean enabled,
+            @Value("${account.cache.transaction-max-size:100000}") int maxSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.responses = new CacheRegion<>("transactions", maxSize, Duration.ZERO, meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 loader 로 읽어서 직렬화한 뒤 담아서 반환
+     */
+    public byte[] getOrLoad(String transactionId, Supplier<TransactionDto> loader) {
+        if (enabled) {
+            byte[] cached = responses.get(transactionId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] response = serialize(loader.get());
+        if (enabled) {
+            responses.put(transactionId, response);
+        }
+        return response;
+    }
+
+    /**
+     * 새로 저장한 거래를 커밋 후에 담음
+     */
+    public void putAfterCommit(TransactionDto transactionDto) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(transactionDto);
+                }
+            });
+        } else {
+            put(transactionDto);
+        }
+    }
+
+    private void put(TransactionDto transactionDto) {
+        // 담지 못해도 첫 조회 때 다시 담기므로 요청은 실패시키지 않음
+        try {
+            responses.put(transactionDto.getTransactionId(), serialize(transactionDto));
+        } catch (IllegalStateException e) {
+            log.warn("Failed to cache transaction: {}", transactionDto.getTransactionId(), e);
+        }
+    }
+
+    private byte[] serialize(TransactionDto transactionDto) {
+        try {
+            return objectMapper.writeValueAsBytes(QueryTransactionResponse.from(transactionDto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize transaction " + transactionDto.getTransactionId(), e);
+        }
+    }
+}
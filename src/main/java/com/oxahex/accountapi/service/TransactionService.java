@@ -1,25 +1,35 @@
 package com.oxahex.accountapi.service;
 
+import com.oxahex.accountapi.aop.OptimisticRetry;
 import com.oxahex.accountapi.domain.Account;
 import com.oxahex.accountapi.domain.AccountUser;
 import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.dto.FailedTransaction;
 import com.oxahex.accountapi.dto.TransactionDto;
+import com.oxahex.accountapi.dto.TransactionHistory;
+import com.oxahex.accountapi.dto.UseBalance;
 import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.jfr.LedgerWriteEvent;
 import com.oxahex.accountapi.repository.AccountRepository;
 import com.oxahex.accountapi.repository.AccountUserRepository;
 import com.oxahex.accountapi.repository.TransactionRepository;
 import com.oxahex.accountapi.type.AccountStatus;
+import com.oxahex.accountapi.type.ConcurrencyMode;
 import com.oxahex.accountapi.type.ErrorCode;
 import com.oxahex.accountapi.type.TransactionResultType;
 import com.oxahex.accountapi.type.TransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,38 +38,164 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AccountUserRepository accountUserRepository;
     private final AccountRepository accountRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final AccountCache accountCache;
+    private final TransactionQueryCache transactionQueryCache;
+    private final StageMetrics stageMetrics;
+
+    // 거래 내역 조회에서 to 가 없을 때의 상한
+    private static final LocalDateTime HISTORY_MAX_TRANSACTED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Value("${account.concurrency.mode:lock}")
+    private ConcurrencyMode concurrencyMode;
 
     /**
      * 거래 정보 저장 및 사용자 계좌의 잔액 업데이트
+     * <p> atomic 모드에서는 조건부 UPDATE 한 번으로 검증과 차감을 함께 처리(Lock 불필요).
      * @param userId 유저 아이디
      * @param accountNumber 거래하려는 계좌의 계좌번호
      * @param amount 거래 금액
      * @return 거래 내역에 대한 정보
      */
+    @OptimisticRetry
     @Transactional
     public TransactionDto useBalance(
             Long userId, String accountNumber, Long amount) {
 
+        stageMetrics.timeCommit();
+        if (concurrencyMode == ConcurrencyMode.ATOMIC) {
+            return debitBalance(userId, accountNumber, amount);
+        }
+
         // 유저 정보와 계좌 정보를 가져옴
-        AccountUser accountUser = accountUserRepository.findById(userId)
+        AccountUser accountUser = stageMetrics.time("user-load", () -> accountUserRepository.findById(userId))
                 .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = stageMetrics.time("account-load", () -> accountRepository.findByAccountNumber(accountNumber))
                 .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
 
         // Validation
-        validateUseBalance(accountUser, account, amount);
+        stageMetrics.time("validation", () -> validateUseBalance(accountUser, account, amount));
 
         // 계좌 잔액 - 거래 금액
         account.useBalance(amount);
+        accountCache.evictAccount(accountNumber);
 
         // 변경 사항(잔액 변경) DB 업데이트 후 DTO로 변환해 반환
+        return TransactionDto.fromEntity(stageMetrics.time("transaction-save",
+                () -> saveAndGetTransaction(TransactionType.USE, TransactionResultType.S, account, amount))
+        );
+    }
+
+    private TransactionDto debitBalance(Long userId, String accountNumber, Long amount) {
+        int updated = accountRepository.debitBalance(accountNumber, userId, amount, LocalDateTime.now());
+
+        if (updated == 0) {
+            throw debitFailure(userId, accountNumber, amount);
+        }
+        accountCache.evictAccount(accountNumber);
+
+        // 차감 후 잔액을 거래 내역에 남기기 위해 계좌를 읽음
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
         return TransactionDto.fromEntity(
                 saveAndGetTransaction(TransactionType.USE, TransactionResultType.S, account, amount)
         );
     }
 
+    // 조건부 차감이 실패한 경우에만 기존 검증 순서대로 조회해서 원인을 찾음
+    private AccountException debitFailure(Long userId, String accountNumber, Long amount) {
+        AccountUser accountUser = accountUserRepository.findById(userId)
+                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        validateUseBalance(accountUser, account, amount);
+
+        // 검증은 통과했다면 그 사이 입금된 경우 -> 차감 시점에는 잔액 부족이었음
+        return new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+
+    /**
+     * 여러 건의 잔액 사용을 하나의 DB 트랜잭션으로 처리
+     * <p> 계좌와 유저는 한 번에 조회하고, 항목은 요청 순서대로 차감.
+     * 실패한 항목은 나머지에 영향을 주지 않고 실패 거래(F)로 남기며, 거래 내역은 saveAll 로 모아서 저장(JDBC batch).
+     * @param items 잔액 사용 요청 목록
+     * @return 요청과 같은 순서의 항목별 거래 결과(실패 시 errorCode 포함)
+     */
+    @OptimisticRetry
+    @Transactional
+    public List<TransactionDto> useBalanceBatch(List<UseBalance.Request> items) {
+        // 유저 존재 여부 확인용(계좌의 소유주는 LAZY 라 id 비교만 하고 따로 조회하지 않음)
+        Map<Long, AccountUser> accountUsers = accountUserRepository.findAllById(
+                        items.stream().map(UseBalance.Request::getUserId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(AccountUser::getId, Function.identity()));
+        Map<String, Account> accounts = accountRepository.findByAccountNumberIn(
+                        items.stream().map(UseBalance.Request::getAccountNumber).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<Transaction> transactions = new ArrayList<>(items.size());
+        List<TransactionDto> results = new ArrayList<>(items.size());
+
+        for (UseBalance.Request item : items) {
+            results.add(useBalanceItem(item, accountUsers, accounts, transactions));
+        }
+
+        transactionRepository.saveAll(transactions);
+        accounts.keySet().forEach(accountCache::evictAccount);
+
+        return results;
+    }
+
+    private TransactionDto useBalanceItem(
+            UseBalance.Request item,
+            Map<Long, AccountUser> accountUsers,
+            Map<String, Account> accounts,
+            List<Transaction> transactions) {
+
+        Account account = accounts.get(item.getAccountNumber());
+
+        try {
+            AccountUser accountUser = Optional.ofNullable(accountUsers.get(item.getUserId()))
+                    .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+            if (account == null) {
+                throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+
+            validateUseBalance(accountUser, account, item.getAmount());
+            account.useBalance(item.getAmount());
+
+            Transaction transaction = newTransaction(
+                    TransactionType.USE, TransactionResultType.S, account, item.getAmount());
+            transactions.add(transaction);
+
+            return TransactionDto.fromEntity(transaction);
+        } catch (AccountException e) {
+            // 계좌가 없으면 실패 거래를 남길 곳이 없음(단건 API 와 동일)
+            if (account == null) {
+                return TransactionDto.builder()
+                        .accountNumber(item.getAccountNumber())
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.F)
+                        .amount(item.getAmount())
+                        .errorCode(e.getErrorCode())
+                        .build();
+            }
+
+            Transaction transaction = newTransaction(
+                    TransactionType.USE, TransactionResultType.F, account, item.getAmount());
+            transactions.add(transaction);
+
+            TransactionDto transactionDto = TransactionDto.fromEntity(transaction);
+            transactionDto.setErrorCode(e.getErrorCode());
+            return transactionDto;
+        }
+    }
+
     private void validateUseBalance(AccountUser accountUser, Account account, Long amount) {
-        // 사용자 ID와 계좌 소유주 ID가 다른 경우
+        // 사용자 ID와 계좌 소유주 ID가 다른 경우(LAZY 프록시의 id 는 조회 없이 읽힘)
         if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
             throw new AccountException(ErrorCode.USER_ACCOUNT_UN_MATCH);
         }
@@ -77,12 +213,106 @@ public class TransactionService {
         // TODO: 거래 금액이 너무 작거나 큰 경우
     }
 
+    /**
+     * 계좌 이체: 출금, 입금과 두 계좌의 거래 내역(TRANSFER_OUT, TRANSFER_IN)을 한 DB 트랜잭션으로 처리
+     * <p> lock 모드에서는 컨트롤러가 두 계좌 Lock 을 계좌 번호 순서로 잡음(@AccountLock).
+     * Lock 이 없는 모드에서도 양방향 이체가 DB 행 Lock 에서 교착되지 않도록 두 계좌를 정해진 순서로 갱신.
+     * optimistic 은 hibernate.order_updates 로 flush 때 UPDATE 가 id 순서로 나가고, atomic 은 계좌 번호 순서로 조건부 UPDATE.
+     * @param userId 출금 계좌 소유주 아이디
+     * @param fromAccountNumber 출금 계좌 번호
+     * @param toAccountNumber 입금 계좌 번호
+     * @param amount 이체 금액
+     * @return 출금 거래, 입금 거래 순서의 목록
+     */
+    @OptimisticRetry
     @Transactional
-    public void saveFailedUseTransaction(String accountNumber, Long amount) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+    public List<TransactionDto> transferBalance(
+            Long userId, String fromAccountNumber, String toAccountNumber, Long amount) {
+
+        stageMetrics.timeCommit();
+        if (Objects.equals(fromAccountNumber, toAccountNumber)) {
+            throw new AccountException(ErrorCode.TRANSFER_TO_SAME_ACCOUNT);
+        }
+
+        AccountUser accountUser = stageMetrics.time("user-load", () -> accountUserRepository.findById(userId))
+                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+
+        Account from = stageMetrics.time("account-load", () -> findAccount(fromAccountNumber));
+        Account to = stageMetrics.time("account-load", () -> findAccount(toAccountNumber));
+
+        // atomic 모드도 UPDATE 전에 검증해, 갱신 순서(계좌 번호)와 관계없이 같은 오류를 돌려줌
+        stageMetrics.time("validation", () -> validateTransfer(accountUser, from, to, amount));
+
+        if (concurrencyMode == ConcurrencyMode.ATOMIC) {
+            return transferAtomically(userId, from, to, amount);
+        }
+
+        // 출금 계좌 잔액 - 이체 금액, 입금 계좌 잔액 + 이체 금액
+        from.useBalance(amount);
+        to.cancelBalance(amount);
+        accountCache.evictAccount(fromAccountNumber);
+        accountCache.evictAccount(toAccountNumber);
+
+        return stageMetrics.time("transaction-save", () -> saveTransferTransactions(from, to, amount));
+    }
+
+    // 조건부 UPDATE 로 출금/입금, 계좌 번호가 작은 쪽부터 갱신하고 뒤쪽이 실패하면 트랜잭션째 롤백
+    // (검증 후 다른 요청이 잔액, 상태를 바꾼 경우는 조건부 UPDATE 가 막음)
+    private List<TransactionDto> transferAtomically(Long userId, Account from, Account to, Long amount) {
+        String fromAccountNumber = from.getAccountNumber();
+        String toAccountNumber = to.getAccountNumber();
+        LocalDateTime now = LocalDateTime.now();
+        Long toAccountId = to.getId();
+
+        if (fromAccountNumber.compareTo(toAccountNumber) < 0) {
+            debitForTransfer(userId, fromAccountNumber, amount, now);
+            creditForTransfer(toAccountId, amount, now);
+        } else {
+            creditForTransfer(toAccountId, amount, now);
+            debitForTransfer(userId, fromAccountNumber, amount, now);
+        }
+        accountCache.evictAccount(fromAccountNumber);
+        accountCache.evictAccount(toAccountNumber);
+
+        // 갱신 후 잔액을 거래 내역에 남기기 위해 두 계좌를 다시 읽음(입금 UPDATE 가 영속성 컨텍스트를 비움)
+        return saveTransferTransactions(findAccount(fromAccountNumber), findAccount(toAccountNumber), amount);
+    }
+
+    private void debitForTransfer(Long userId, String accountNumber, Long amount, LocalDateTime now) {
+        if (accountRepository.debitBalance(accountNumber, userId, amount, now) == 0) {
+            throw debitFailure(userId, accountNumber, amount);
+        }
+    }
+
+    private void creditForTransfer(Long accountId, Long amount, LocalDateTime now) {
+        if (accountRepository.creditBalance(accountId, amount, now) == 0) {
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    private Account findAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
 
-        saveAndGetTransaction(TransactionType.USE, TransactionResultType.F, account, amount);
+    private void validateTransfer(AccountUser accountUser, Account from, Account to, Long amount) {
+        validateUseBalance(accountUser, from, amount);
+
+        // 입금 계좌가 해지 상태인 경우
+        if (to.getAccountStatus() == AccountStatus.UNREGISTERED) {
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    // 두 거래 내역은 같은 거래 시각으로 남김
+    private List<TransactionDto> saveTransferTransactions(Account from, Account to, Long amount) {
+        LocalDateTime transactedAt = LocalDateTime.now();
+        return List.of(
+                TransactionDto.fromEntity(saveAndGetTransaction(
+                        TransactionType.TRANSFER_OUT, TransactionResultType.S, from, amount, transactedAt)),
+                TransactionDto.fromEntity(saveAndGetTransaction(
+                        TransactionType.TRANSFER_IN, TransactionResultType.S, to, amount, transactedAt))
+        );
     }
 
 
@@ -94,41 +324,77 @@ public class TransactionService {
      * @param amount 취소 금액
      * @return 거래 취소 정보 데이터
      */
+    @OptimisticRetry
     @Transactional
     public TransactionDto cancelBalance(
             String transactionId, String accountNumber, Long amount) {
 
-        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
+        stageMetrics.timeCommit();
+        Transaction transaction = stageMetrics.time("transaction-load",
+                        () -> transactionRepository.findByTransactionId(transactionId))
                 .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
 
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = stageMetrics.time("account-load", () -> accountRepository.findByAccountNumber(accountNumber))
                 .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
 
         // Validation
-        validateCancelBalance(transaction, account, amount);
+        stageMetrics.time("validation", () -> validateCancelBalance(transaction, account, amount));
 
         // 계좌 잔액 + 취소 금액
-        account.cancelBalance(amount);
+        Account canceled = addCanceledAmount(account, accountNumber, amount);
+        accountCache.evictAccount(accountNumber);
 
         // 변경 사항(잔액 변경) DB 업데이트 후 DTO로 변환해 반환
-        return TransactionDto.fromEntity(
-                saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.S, account, amount)
+        return TransactionDto.fromEntity(stageMetrics.time("transaction-save",
+                () -> saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.S, canceled, amount))
         );
     }
 
+    private Account addCanceledAmount(Account account, String accountNumber, Long amount) {
+        if (concurrencyMode != ConcurrencyMode.ATOMIC) {
+            account.cancelBalance(amount);
+            return account;
+        }
 
-    @Transactional
-    public void saveFailedCancelTransaction(
-            String accountNumber, Long amount
-    ) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        // Lock 없이 동작하므로 읽은 값에 더하지 않고 DB 에서 더한 뒤 다시 읽음
+        if (accountRepository.creditBalance(account.getId(), amount, LocalDateTime.now()) == 0) {
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+        return accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * 실패 거래 일괄 저장(FailedTransactionRecorder 가 모아서 호출)
+     * <p> 계좌는 한 번에 조회하고, 없는 계좌의 요청은 남길 곳이 없으므로 건너뜀.
+     * @param failedTransactions 실패한 요청 목록
+     */
+    @Transactional
+    public void saveFailedTransactions(List<FailedTransaction> failedTransactions) {
+        Map<String, Account> accounts = accountRepository.findByAccountNumberIn(
+                        failedTransactions.stream().map(FailedTransaction::getAccountNumber).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
 
-        saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.F, account, amount);
+        transactionRepository.saveAll(failedTransactions.stream()
+                .filter(failed -> accounts.containsKey(failed.getAccountNumber()))
+                .map(failed -> newTransaction(
+                        failed.getTransactionType(),
+                        TransactionResultType.F,
+                        accounts.get(failed.getAccountNumber()),
+                        failed.getAmount(),
+                        failed.getTransactedAt()))
+                .toList());
     }
 
     private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
-        // 거래와 계좌가 일치하지 않는 경우
+        // 이체 거래는 상대 계좌까지 되돌려야 하므로 취소 대상이 아님
+        if (transaction.getTransactionType() == TransactionType.TRANSFER_OUT
+                || transaction.getTransactionType() == TransactionType.TRANSFER_IN) {
+            throw new AccountException(ErrorCode.TRANSACTION_NOT_CANCELABLE);
+        }
+
+        // 거래와 계좌가 일치하지 않는 경우(LAZY 프록시의 id 는 조회 없이 읽힘)
         if (!Objects.equals(transaction.getAccount().getId(), account.getId())) {
             throw new AccountException(ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH);
         }
@@ -156,17 +422,114 @@ public class TransactionService {
             Account account,
             Long amount)
     {
-        return transactionRepository.save(
-                Transaction.builder()
-                        .transactionType(transactionType)
-                        .transactionResultType(transactionResultType)
-                        .account(account)
-                        .amount(amount)
-                        .balanceSnapShot(account.getBalance())
-                        .transactionId(UUID.randomUUID().toString().replace("-", ""))
-                        .transactedAt(LocalDateTime.now())
-                        .build()
+        return saveAndGetTransaction(transactionType, transactionResultType, account, amount, LocalDateTime.now());
+    }
+
+    private Transaction saveAndGetTransaction(
+            TransactionType transactionType,
+            TransactionResultType transactionResultType,
+            Account account,
+            Long amount,
+            LocalDateTime transactedAt) {
+
+        LedgerWriteEvent event = new LedgerWriteEvent();
+        event.begin();
+
+        Transaction transaction = transactionRepository.save(
+                newTransaction(transactionType, transactionResultType, account, amount, transactedAt)
         );
+
+        // 거래 내역은 바뀌지 않으므로 커밋 후 바로 조회 캐시에 담아 둠(결제 직후 상태 조회)
+        transactionQueryCache.putAfterCommit(TransactionDto.fromEntity(transaction));
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.transactionType = transactionType.name();
+            event.transactionResult = transactionResultType.name();
+            event.accountNumber = account.getAccountNumber();
+            event.commit();
+        }
+        return transaction;
+    }
+
+    private Transaction newTransaction(
+            TransactionType transactionType,
+            TransactionResultType transactionResultType,
+            Account account,
+            Long amount) {
+
+        return newTransaction(transactionType, transactionResultType, account, amount, LocalDateTime.now());
+    }
+
+    private Transaction newTransaction(
+            TransactionType transactionType,
+            TransactionResultType transactionResultType,
+            Account account,
+            Long amount,
+            LocalDateTime transactedAt) {
+
+        return Transaction.builder()
+                .transactionType(transactionType)
+                .transactionResultType(transactionResultType)
+                .account(account)
+                .amount(amount)
+                .balanceSnapShot(account.getBalance())
+                .transactionId(transactionIdGenerator.generate())
+                .transactedAt(transactedAt)
+                .build();
+    }
+
+    /**
+     * 계좌의 거래 내역(최신순) 페이지 조회
+     * <p> OFFSET 없이 이전 페이지 마지막 거래의 (transactedAt, id) 다음부터 읽으므로(keyset) 페이지가 깊어져도 읽는 양이 같음.
+     * 결과가 없을 때만 계좌가 있는지 확인.
+     * @param accountNumber 조회할 계좌 번호
+     * @param request 기간, 거래 종류, 결과, 커서, 페이지 크기
+     * @return 거래 목록과 다음 페이지 커서(마지막 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public TransactionHistory.Response getTransactionHistory(
+            String accountNumber, TransactionHistory.Request request) {
+
+        LocalDateTime before = Optional.ofNullable(request.getTo()).orElse(HISTORY_MAX_TRANSACTED_AT);
+        long beforeId = Long.MIN_VALUE;     // to 는 미포함
+        if (request.getCursor() != null) {
+            TransactionHistory.Item last = decodeCursor(request.getCursor());
+            before = last.getTransactedAt();
+            beforeId = last.getId();
+        }
+
+        int size = request.getSize();
+        List<TransactionHistory.Item> items = transactionRepository.findHistory(
+                accountNumber, before, beforeId, request.getFrom(), request.getType(), request.getResult(),
+                PageRequest.ofSize(size + 1));      // 한 건 더 읽어서 다음 페이지가 있는지 확인
+
+        if (items.isEmpty() && request.getCursor() == null && !accountRepository.existsByAccountNumber(accountNumber)) {
+            throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        if (items.size() <= size) {
+            return new TransactionHistory.Response(items, null);
+        }
+        List<TransactionHistory.Item> page = items.subList(0, size);
+        return new TransactionHistory.Response(page, encodeCursor(page.get(size - 1)));
+    }
+
+    private static String encodeCursor(TransactionHistory.Item item) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (item.getTransactedAt() + "|" + item.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransactionHistory.Item decodeCursor(String cursor) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            TransactionHistory.Item item = new TransactionHistory.Item();
+            item.setTransactedAt(LocalDateTime.parse(values[0]));
+            item.setId(Long.parseLong(values[1]));
+            return item;
+        } catch (RuntimeException e) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
     }
 
     /**
@@ -177,8 +540,8 @@ public class TransactionService {
      */
     @Transactional
     public TransactionDto queryTransaction(String transactionId) {
-        // transaction id 로 거래가 있는지 확인 후 반환
-        return TransactionDto.fromEntity(transactionRepository.findByTransactionId(transactionId)
+        // transaction id 로 거래가 있는지 확인 후 반환(계좌 번호가 필요하므로 계좌까지 함께 조회)
+        return TransactionDto.fromEntity(transactionRepository.findWithAccountByTransactionId(transactionId)
                 .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND)));
     }
 }
\ No newline at end of file
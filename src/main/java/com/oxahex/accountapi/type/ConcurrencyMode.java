@@ -0,0 +1,7 @@
+package com.oxahex.accountapi.type;
+
+public enum ConcurrencyMode {
+    LOCK,
+    OPTIMISTIC,
+    ATOMIC
+}
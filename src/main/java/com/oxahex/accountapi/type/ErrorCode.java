@@ -19,7 +19,11 @@ public enum ErrorCode {
     TRANSACTION_NOT_FOUND("해당 거래가 없습니다."),
     CANCEL_MUST_FULLY("부분 취소는 허용되지 않습니다."),
     TOO_OLD_ORDER_TO_CANCEL("1년이 지난 거래는 취소가 불가능합니다."),
-    ACCOUNT_TRANSACTION_LOCK("해당 계좌는 사용 중 입니다.");
+    ACCOUNT_TRANSACTION_LOCK("해당 계좌는 사용 중 입니다."),
+    SERVER_BUSY("처리 중인 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    ACCOUNT_NUMBER_EXHAUSTED("발급 가능한 계좌 번호가 없습니다."),
+    TRANSFER_TO_SAME_ACCOUNT("같은 계좌로는 이체할 수 없습니다."),
+    TRANSACTION_NOT_CANCELABLE("이체 거래는 취소할 수 없습니다.");
 
     private final String description;
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.oxahex.accountapi.type;
+
+public enum OverflowPolicy {
+    DROP,   // 큐가 가득 차면 버리고 카운터만 올림
+    BLOCK   // 큐에 자리가 날 때까지 요청 스레드가 대기
+}
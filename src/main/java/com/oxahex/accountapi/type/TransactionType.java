@@ -2,5 +2,7 @@ package com.oxahex.accountapi.type;
 
 public enum TransactionType {
     USE,
-    CANCEL
+    CANCEL,
+    TRANSFER_OUT,   // 이체 출금
+    TRANSFER_IN     // 이체 입금
 }
\ No newline at end of file
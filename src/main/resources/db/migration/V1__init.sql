@@ -0,0 +1,49 @@
+create sequence account_user_seq start with 1 increment by 50;
+create sequence account_seq start with 1 increment by 50;
+create sequence transaction_seq start with 1 increment by 50;
+
+-- 계좌 번호 발급용(값 하나 = 번호 구간 하나)
+create sequence account_number_seq start with 0 minvalue 0;
+
+create table account_user (
+    id         bigint not null,
+    name       varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table account (
+    id               bigint      not null,
+    account_user_id  bigint,
+    account_number   varchar(10) not null,
+    account_status   varchar(255) check (account_status in ('IN_USE', 'UNREGISTERED')),
+    balance          bigint,
+    registered_at    timestamp(6),
+    un_registered_at timestamp(6),
+    created_at       timestamp(6),
+    updated_at       timestamp(6),
+    primary key (id),
+    constraint fk_account_account_user foreign key (account_user_id) references account_user (id)
+);
+
+create unique index uk_account_account_number on account (account_number);
+create index idx_account_account_user_id on account (account_user_id);
+
+create table transaction (
+    id                      bigint      not null,
+    account_id              bigint,
+    transaction_id          varchar(32) not null,
+    transaction_type        varchar(255) check (transaction_type in ('USE', 'CANCEL')),
+    transaction_result_type varchar(255) check (transaction_result_type in ('S', 'F')),
+    amount                  bigint,
+    balance_snap_shot       bigint,
+    transacted_at           timestamp(6),
+    created_at              timestamp(6),
+    updated_at              timestamp(6),
+    primary key (id),
+    constraint fk_transaction_account foreign key (account_id) references account (id)
+);
+
+create unique index uk_transaction_transaction_id on transaction (transaction_id);
+create index idx_transaction_account_id_transacted_at on transaction (account_id, transacted_at);
@@ -0,0 +1,2 @@
+-- 낙관적 락(optimistic 모드)용 버전 컬럼
+alter table account add column version bigint default 0 not null;
@@ -0,0 +1,3 @@
+-- 계좌별 거래 내역 keyset 페이지 조회((transacted_at, id) 순서)용, 기존 (account_id, transacted_at) 인덱스를 대체
+drop index idx_transaction_account_id_transacted_at;
+create index idx_transaction_account_id_transacted_at_id on transaction (account_id, transacted_at, id);
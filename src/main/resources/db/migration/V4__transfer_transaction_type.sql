@@ -0,0 +1,9 @@
+-- 계좌 이체 거래 유형(TRANSFER_OUT, TRANSFER_IN) 추가
+-- V1 의 check 제약은 이름이 없어서 바꿀 수 없으므로, 새 제약으로 컬럼을 다시 만들고 옮김(기존 컬럼을 지우면 제약도 함께 지워짐)
+alter table transaction add column transaction_type_new varchar(255)
+    check (transaction_type_new in ('USE', 'CANCEL', 'TRANSFER_OUT', 'TRANSFER_IN'));
+
+update transaction set transaction_type_new = transaction_type;
+
+alter table transaction drop column transaction_type;
+alter table transaction alter column transaction_type_new rename to transaction_type;
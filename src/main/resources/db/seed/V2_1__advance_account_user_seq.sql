@@ -0,0 +1,2 @@
+-- pooled-lo 는 시퀀스 값부터 id 를 쓰므로 seed 유저(1~3) 뒤에서 시작
+alter sequence account_user_seq restart with 51;
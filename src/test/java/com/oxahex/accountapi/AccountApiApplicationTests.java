@@ -3,7 +3,7 @@ package com.oxahex.accountapi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "account.lock.provider=local")
 class AccountApiApplicationTests {
 
 	@Test
@@ -2,6 +2,7 @@ package com.oxahex.accountapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oxahex.accountapi.dto.AccountDto;
+import com.oxahex.accountapi.dto.AccountInfo;
 import com.oxahex.accountapi.dto.CreateAccount;
 import com.oxahex.accountapi.dto.DeleteAccount;
 import com.oxahex.accountapi.service.AccountService;
@@ -91,13 +92,13 @@ class AccountControllerTest {
     @DisplayName("계좌 조회 - 성공")
     void getAccountsByUserId() throws Exception {
         // given: 계좌 3개 존재
-        List<AccountDto> accountDtos = Arrays.asList(
-                AccountDto.builder().accountNumber("1234567890").balance(10000L).build(),
-                AccountDto.builder().accountNumber("1234567891").balance(20000L).build(),
-                AccountDto.builder().accountNumber("1234567892").balance(30000L).build()
+        List<AccountInfo> accountInfos = Arrays.asList(
+                new AccountInfo("1234567890", 10000L),
+                new AccountInfo("1234567891", 20000L),
+                new AccountInfo("1234567892", 30000L)
         );
         given(accountService.getAccountsByUserId(anyLong()))
-                .willReturn(accountDtos);
+                .willReturn(accountInfos);
 
         // when
         // then
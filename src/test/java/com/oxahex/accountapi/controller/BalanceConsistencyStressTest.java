@@ -0,0 +1,224 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.dto.CancelBalance;
+import com.oxahex.accountapi.dto.Transfer;
+import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시성 스트레스 테스트: 여러 스레드가 @AccountLock 프록시(컨트롤러 빈)를 거쳐 잔액 사용/취소/이체를 섞어서 호출
+ * <p> 끝난 뒤 모든 계좌의 잔액이 "초기 잔액 - 성공한 사용, 출금 + 성공한 취소, 입금" 과 같은지(갱신 유실 없음) 확인하고,
+ * 방식(Lock 백엔드, 동시성 모드)별 처리량과 실패 코드 분포를 출력.
+ * <p> hot 계좌 몇 개에 요청의 절반을 몰아서 경합을 만들고, 나머지는 cold 계좌에 고르게 나눔.
+ * 잔액을 작게 잡아 잔액 부족(F) 경로도 섞이도록 함.
+ * <p> H2 와 embedded Redis 만 쓰고, 방식마다 컨텍스트를 따로 띄우므로 DB 이름과 Redis 포트를 나눔.
+ * 시간이 걸리므로 test 에서는 빼고 stressTest 로 실행(-Pstress.threads, -Pstress.operations).
+ */
+@Tag("stress")
+abstract class BalanceConsistencyStressTest {
+    // 테스트 소스에는 Lombok 이 없으므로 @Slf4j 대신 직접 선언
+    private static final Logger log = LoggerFactory.getLogger(BalanceConsistencyStressTest.class);
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 16);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("stress.operations", 200);
+    private static final int HOT_ACCOUNTS = 2;
+    private static final int COLD_ACCOUNTS = 30;
+    private static final double HOT_RATIO = 0.5;
+    private static final double CANCEL_RATIO = 0.3;
+    private static final double TRANSFER_RATIO = 0.2;
+    private static final long INITIAL_BALANCE = 10_000L;
+    private static final int ACCOUNTS_PER_USER = 10;
+
+    // seed 유저와 account_user 시퀀스가 쓰는 범위를 피함
+    private static final long FIRST_USER_ID = 1_000_000L;
+
+    @Autowired
+    private TransactionController transactionController;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("동시 사용/취소/이체 후 계좌 잔액 = 초기 잔액 + 성공한 거래 합")
+    void balanceConsistency() throws Exception {
+        // given
+        List<Target> hot = createAccounts(0, HOT_ACCOUNTS);
+        List<Target> cold = createAccounts(HOT_ACCOUNTS, COLD_ACCOUNTS);
+        Queue<Used> cancelable = new ConcurrentLinkedQueue<>();
+        Map<String, AtomicLong> results = new ConcurrentSkipListMap<>();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    try {
+                        results.computeIfAbsent(operate(hot, cold, cancelable), key -> new AtomicLong())
+                                .incrementAndGet();
+                    } catch (AccountException e) {
+                        results.computeIfAbsent("F " + e.getErrorCode(), key -> new AtomicLong())
+                                .incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(10, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        // then
+        int operations = THREADS * OPERATIONS_PER_THREAD;
+        log.info("[{}] {} threads, {} ops in {} s: {} ops/s {}",
+                getClass().getSimpleName(), THREADS, operations, String.format("%.2f", elapsed / 1e9),
+                String.format("%.0f", operations / (elapsed / 1e9)), results);
+
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        List<String> mismatched = jdbcTemplate.query("""
+                        select a.account_number, a.balance,
+                               coalesce(sum(case
+                                   when t.transaction_type in ('USE', 'TRANSFER_OUT') then -t.amount
+                                   else t.amount end), 0) as delta
+                          from account a
+                          left join transaction t
+                            on t.account_id = a.id and t.transaction_result_type = 'S'
+                         where a.account_user_id >= ?
+                         group by a.account_number, a.balance
+                        having a.balance <> ? + coalesce(sum(case
+                                   when t.transaction_type in ('USE', 'TRANSFER_OUT') then -t.amount
+                                   else t.amount end), 0)
+                        """,
+                (rs, rowNum) -> rs.getString("account_number")
+                        + " balance=" + rs.getLong("balance") + " delta=" + rs.getLong("delta"),
+                FIRST_USER_ID, INITIAL_BALANCE);
+        assertEquals(List.of(), mismatched);
+        assertTrue(results.containsKey("S USE"));
+    }
+
+    private String operate(List<Target> hot, List<Target> cold, Queue<Used> cancelable) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < CANCEL_RATIO) {
+            Used used = cancelable.poll();
+            if (used != null) {
+                transactionController.cancelBalance(
+                        new CancelBalance.Request(used.transactionId(), used.accountNumber(), used.amount()));
+                return "S CANCEL";
+            }
+        }
+
+        Target target = pick(hot, cold, random);
+        long amount = random.nextLong(1, 101);
+
+        // 같은 계좌 쌍으로 양방향 이체가 섞임
+        if (random.nextDouble() < TRANSFER_RATIO) {
+            Target to = pick(hot, cold, random);
+            if (!to.equals(target)) {
+                transactionController.transferBalance(new Transfer.Request(
+                        target.userId(), target.accountNumber(), to.accountNumber(), amount));
+                return "S TRANSFER";
+            }
+        }
+
+        String transactionId = transactionController.useBalance(
+                new UseBalance.Request(target.userId(), target.accountNumber(), amount)).getTransactionId();
+        cancelable.add(new Used(transactionId, target.accountNumber(), amount));
+        return "S USE";
+    }
+
+    private static Target pick(List<Target> hot, List<Target> cold, ThreadLocalRandom random) {
+        return random.nextDouble() < HOT_RATIO
+                ? hot.get(random.nextInt(hot.size()))
+                : cold.get(random.nextInt(cold.size()));
+    }
+
+    // 유저당 최대 계좌 수(10)를 넘지 않도록 유저를 나눠서 생성
+    private List<Target> createAccounts(int offset, int count) {
+        List<Target> targets = new ArrayList<>(count);
+        for (int i = offset; i < offset + count; i++) {
+            long userId = FIRST_USER_ID + i / ACCOUNTS_PER_USER;
+            if (i % ACCOUNTS_PER_USER == 0) {
+                jdbcTemplate.update(
+                        "insert into account_user(id, name, created_at, updated_at) values (?, ?, now(), now())",
+                        userId, "stress-" + userId);
+            }
+            targets.add(new Target(userId, accountService.createAccount(userId, INITIAL_BALANCE).getAccountNumber()));
+        }
+        return targets;
+    }
+
+    private record Target(Long userId, String accountNumber) {
+    }
+
+    private record Used(String transactionId, String accountNumber, Long amount) {
+    }
+
+    @SpringBootTest(properties = {
+            "account.concurrency.mode=lock",
+            "account.lock.provider=redis",
+            "spring.datasource.url=jdbc:h2:mem:stress-redis-lock",
+            "spring.data.redis.port=6380"
+    })
+    @DirtiesContext
+    static class RedisLock extends BalanceConsistencyStressTest {
+    }
+
+    @SpringBootTest(properties = {
+            "account.concurrency.mode=lock",
+            "account.lock.provider=local",
+            "spring.datasource.url=jdbc:h2:mem:stress-local-lock",
+            "spring.data.redis.port=6381"
+    })
+    @DirtiesContext
+    static class LocalLock extends BalanceConsistencyStressTest {
+    }
+
+    @SpringBootTest(properties = {
+            "account.concurrency.mode=optimistic",
+            "spring.datasource.url=jdbc:h2:mem:stress-optimistic",
+            "spring.data.redis.port=6382"
+    })
+    @DirtiesContext
+    static class Optimistic extends BalanceConsistencyStressTest {
+    }
+
+    @SpringBootTest(properties = {
+            "account.concurrency.mode=atomic",
+            "spring.datasource.url=jdbc:h2:mem:stress-atomic",
+            "spring.data.redis.port=6383"
+    })
+    @DirtiesContext
+    static class Atomic extends BalanceConsistencyStressTest {
+    }
+}
@@ -0,0 +1,86 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.jfr.BusinessErrorEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+    @TempDir
+    Path directory;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("JFR 녹화 - 시작하고 멈추면 계좌 이벤트가 담긴 파일을 씀")
+    void startAndStop() throws Exception {
+        // given
+        endpoint = new FlightRecordingEndpoint(directory, Duration.ofMinutes(1), DataSize.ofMegabytes(16), 5);
+        assertTrue(endpoint.start(null).isRecording());
+
+        BusinessErrorEvent event = new BusinessErrorEvent();
+        event.errorCode = "ACCOUNT_NOT_FOUND";
+        event.exception = IllegalStateException.class;
+        event.commit();
+
+        // when
+        FlightRecordingEndpoint.Status status = endpoint.stop();
+
+        // then
+        assertFalse(status.isRecording());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(status.getFile()));
+        assertTrue(events.stream().anyMatch(recorded ->
+                recorded.getEventType().getName().equals("com.oxahex.account.BusinessError")
+                        && recorded.getString("errorCode").equals("ACCOUNT_NOT_FOUND")));
+    }
+
+    @Test
+    @DisplayName("JFR 녹화 - 이미 녹화 중이면 새로 시작하지 않음")
+    void start_AlreadyRecording() {
+        // given
+        endpoint = new FlightRecordingEndpoint(directory, Duration.ofMinutes(1), DataSize.ofMegabytes(16), 5);
+        FlightRecordingEndpoint.Status first = endpoint.start(30L);
+
+        // when
+        FlightRecordingEndpoint.Status second = endpoint.start(30L);
+
+        // then
+        assertEquals(first.getFile(), second.getFile());
+        assertTrue(second.isRecording());
+    }
+
+    @Test
+    @DisplayName("JFR 녹화 - 시작할 때 max-files 를 넘는 오래된 녹화 파일은 지움")
+    void start_DeleteOldRecordings() throws Exception {
+        // given: 최대 2개, 이전 녹화 파일 2개와 다른 파일
+        endpoint = new FlightRecordingEndpoint(directory, Duration.ofMinutes(1), DataSize.ofMegabytes(16), 2);
+        Path oldest = Files.createFile(directory.resolve("account-api-20230101-000000.jfr"));
+        Path older = Files.createFile(directory.resolve("account-api-20230102-000000.jfr"));
+        Path other = Files.createFile(directory.resolve("other.jfr"));
+
+        // when
+        FlightRecordingEndpoint.Status status = endpoint.start(30L);
+
+        // then: 가장 오래된 것만 지우고 새 녹화 자리를 남김
+        assertFalse(Files.exists(oldest));
+        assertTrue(Files.exists(older));
+        assertTrue(Files.exists(other));
+        assertTrue(status.isRecording());
+    }
+}
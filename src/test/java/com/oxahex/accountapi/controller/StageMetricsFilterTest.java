@@ -0,0 +1,169 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.exception.GlobalExceptionHandler;
+import com.oxahex.accountapi.service.AsyncAccountLockExecutor;
+import com.oxahex.accountapi.service.FailedTransactionRecorder;
+import com.oxahex.accountapi.service.StageMetrics;
+import com.oxahex.accountapi.service.StageMetricsAspect;
+import com.oxahex.accountapi.service.StatementService;
+import com.oxahex.accountapi.service.TransactionQueryCache;
+import com.oxahex.accountapi.service.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static com.oxahex.accountapi.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StageMetricsFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+    private final StageMetricsFilter filter = new StageMetricsFilter(stageMetrics);
+
+    @Test
+    @DisplayName("Server-Timing - 응답을 쓴 뒤에도 헤더를 붙이고 본문을 그대로 내보냄")
+    void serverTiming() throws Exception {
+        // given: 버퍼보다 큰 응답을 쓰고 flush 함
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/transaction/use");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setBufferSize(16);
+        String body = "{\"transactionId\":\"" + "0".repeat(32) + "\"}";
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/transaction/use");
+                resp.getWriter().write(body);
+                resp.flushBuffer();
+            }
+        }));
+
+        // then
+        assertTrue(response.getHeader(StageMetricsFilter.SERVER_TIMING).contains("total;dur="));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Server-Timing - 내역서 스트리밍은 버퍼링하지 않음")
+    void statement() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/account/1234567890/statement");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/account/{accountNumber}/statement");
+                resp.getWriter().write("{}\n");
+                resp.flushBuffer();
+            }
+        }));
+
+        // then: 이미 커밋되어 헤더를 붙일 수 없음
+        assertNull(response.getHeader(StageMetricsFilter.SERVER_TIMING));
+        assertEquals("{}\n", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("단계별 시간 - @Valid 실패(400)는 컨트롤러에 닿지 않아도 실패로 기록")
+    void invalidRequest() throws Exception {
+        // given
+        MockMvc mockMvc = transactionMockMvc(mock(AsyncAccountLockExecutor.class));
+
+        // when: 최소 금액(10) 미만
+        mockMvc.perform(post("/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":1,\"accountNumber\":\"1234567890\",\"amount\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+
+        // then
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC)
+                .tag("endpoint", "POST /transaction/use")
+                .tag("stage", "total")
+                .tag("result", "F")
+                .tag("error", "INVALID_REQUEST")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("단계별 시간 - 비동기 요청은 비동기 디스패치가 끝날 때 결과와 함께 기록")
+    void asyncRequest() throws Exception {
+        // given: Lock 을 잡고 처리했으나 잔액 부족
+        AsyncAccountLockExecutor asyncAccountLockExecutor = mock(AsyncAccountLockExecutor.class);
+        given(asyncAccountLockExecutor.supplyWithLock(anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new AccountException(AMOUNT_EXCEED_BALANCE)));
+        MockMvc mockMvc = transactionMockMvc(asyncAccountLockExecutor);
+
+        // when
+        MvcResult started = mockMvc.perform(post("/transaction/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":1,\"accountNumber\":\"1234567890\",\"amount\":1000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then: 첫 디스패치에서는 기록하지 않음
+        assertNull(meterRegistry.find(StageMetrics.METRIC).timer());
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(jsonPath("$.errorCode").value("AMOUNT_EXCEED_BALANCE"))
+                .andExpect(header().exists(StageMetricsFilter.SERVER_TIMING));
+
+        // then: 첫 디스패치의 request 단계와 비동기 구간(async)이 한 번에 기록됨
+        for (String stage : new String[]{"request", "async", "response", "total"}) {
+            assertEquals(1, meterRegistry.get(StageMetrics.METRIC)
+                    .tag("endpoint", "POST /transaction/use/async")
+                    .tag("stage", stage)
+                    .tag("result", "F")
+                    .tag("error", "AMOUNT_EXCEED_BALANCE")
+                    .timer().count());
+        }
+    }
+
+    private MockMvc transactionMockMvc(AsyncAccountLockExecutor asyncAccountLockExecutor) {
+        TransactionController controller = new TransactionController(
+                mock(TransactionService.class),
+                mock(FailedTransactionRecorder.class),
+                mock(TransactionQueryCache.class),
+                mock(StatementService.class),
+                asyncAccountLockExecutor);
+
+        // 컨트롤러 시작/끝 표시는 StageMetricsAspect 가 하므로 같이 붙임
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(controller);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new StageMetricsAspect(stageMetrics));
+
+        return MockMvcBuilders.standaloneSetup((Object) proxyFactory.getProxy())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilters(filter)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.oxahex.accountapi.controller;
+
+import com.oxahex.accountapi.dto.CancelBalance;
+import com.oxahex.accountapi.dto.CreateAccount;
+import com.oxahex.accountapi.dto.DeleteAccount;
+import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.dto.UseBalanceBatch;
+import com.oxahex.accountapi.service.TransactionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수(Hibernate Statistics 의 prepared statement 수)
+ * <p> 컨트롤러 빈을 직접 호출하므로 @AccountLock 까지 포함. 시퀀스 조회가 섞이지 않도록 같은 종류의 INSERT 를 먼저 한 번씩 해 둠.
+ * <p> seed 유저 2 를 사용.
+ */
+@SpringBootTest(properties = "account.lock.provider=local")
+class StatementCountTest {
+    private static final long USER_ID = 2L;
+
+    @Autowired
+    private AccountController accountController;
+
+    @Autowired
+    private TransactionController transactionController;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 SQL 실행 횟수")
+    void statementsPerEndpoint() throws Throwable {
+        // given: 계좌, 거래 내역 시퀀스를 미리 한 번 가져옴
+        String accountNumber = accountController.createAccount(
+                new CreateAccount.Request(USER_ID, 100_000L)).getAccountNumber();
+        transactionService.useBalance(USER_ID, accountNumber, 1000L);
+
+        // POST /account: 유저 조회, 계좌 수 조회, INSERT
+        String[] created = new String[1];
+        assertEquals(3, statements(() -> created[0] = accountController.createAccount(
+                new CreateAccount.Request(USER_ID, 0L)).getAccountNumber()));
+
+        // GET /account: projection 한 번, 다시 조회하면 캐시
+        assertEquals(1, statements(() -> accountController.getAccountsByUserId(USER_ID)));
+        assertEquals(0, statements(() -> accountController.getAccountsByUserId(USER_ID)));
+
+        // POST /transaction/use: 유저 조회, 계좌 조회(소유주는 조회하지 않음), INSERT, UPDATE
+        String[] transactionId = new String[1];
+        assertEquals(4, statements(() -> transactionId[0] = transactionController.useBalance(
+                new UseBalance.Request(USER_ID, accountNumber, 1000L)).getTransactionId()));
+
+        // GET /transaction/{id}: 저장할 때 캐시에 담겼으므로 DB 조회 없음
+        assertEquals(0, statements(() -> transactionController.queryTransaction(transactionId[0])));
+
+        // POST /transaction/cancel: 거래 조회(계좌는 조회하지 않음), 계좌 조회, INSERT, UPDATE
+        assertEquals(4, statements(() -> transactionController.cancelBalance(
+                new CancelBalance.Request(transactionId[0], accountNumber, 1000L))));
+
+        // GET /transaction/{id}: 캐시에 없는 거래(배치로 저장)는 계좌를 fetch join 한 조회 한 번
+        String batchTransactionId = transactionController.useBalanceBatch(new UseBalanceBatch.Request(
+                        List.of(new UseBalance.Request(USER_ID, accountNumber, 1000L))))
+                .getResults().get(0).getTransactionId();
+        assertEquals(1, statements(() -> transactionController.queryTransaction(batchTransactionId)));
+
+        // DELETE /account: 유저 조회, 계좌 조회, UPDATE
+        assertEquals(3, statements(() -> accountController.deleteAccount(
+                new DeleteAccount.Request(USER_ID, created[0]))));
+    }
+
+    private long statements(Executable call) throws Throwable {
+        statistics.clear();
+        call.execute();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -4,8 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oxahex.accountapi.domain.Transaction;
 import com.oxahex.accountapi.dto.AccountDto;
 import com.oxahex.accountapi.dto.CancelBalance;
+import com.oxahex.accountapi.dto.QueryTransactionResponse;
 import com.oxahex.accountapi.dto.TransactionDto;
+import com.oxahex.accountapi.dto.TransactionHistory;
+import com.oxahex.accountapi.dto.Transfer;
 import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.dto.UseBalanceBatch;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.service.AsyncAccountLockExecutor;
+import com.oxahex.accountapi.service.FailedTransactionRecorder;
+import com.oxahex.accountapi.service.StatementService;
+import com.oxahex.accountapi.service.TransactionQueryCache;
 import com.oxahex.accountapi.service.TransactionService;
 import com.oxahex.accountapi.type.TransactionResultType;
 import com.oxahex.accountapi.type.TransactionType;
@@ -14,22 +23,41 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static com.oxahex.accountapi.type.TransactionResultType.S;
 import static com.oxahex.accountapi.type.TransactionType.USE;
+import static com.oxahex.accountapi.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.oxahex.accountapi.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static com.oxahex.accountapi.type.ErrorCode.CANCEL_MUST_FULLY;
+import static com.oxahex.accountapi.type.TransactionResultType.F;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TransactionController.class)
@@ -38,6 +66,18 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private FailedTransactionRecorder failedTransactionRecorder;
+
+    @MockBean
+    private TransactionQueryCache transactionQueryCache;
+
+    @MockBean
+    private StatementService statementService;
+
+    @MockBean
+    private AsyncAccountLockExecutor asyncAccountLockExecutor;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -72,6 +112,121 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(12345));
     }
 
+    @Test
+    @DisplayName("잔액 사용 배치 - 항목별 결과 반환")
+    void useBalanceBatch() throws Exception {
+        // given: 첫 항목 성공, 두 번째 항목 잔액 부족
+        given(transactionService.useBalanceBatch(anyList()))
+                .willReturn(List.of(
+                        TransactionDto.builder()
+                                .accountNumber("1234567890")
+                                .transactionResultType(S)
+                                .transactionId("transactionId")
+                                .amount(1000L)
+                                .transactedAt(LocalDateTime.now())
+                                .build(),
+                        TransactionDto.builder()
+                                .accountNumber("1234567890")
+                                .transactionResultType(F)
+                                .transactionId("failedTransactionId")
+                                .amount(1000_000L)
+                                .transactedAt(LocalDateTime.now())
+                                .errorCode(AMOUNT_EXCEED_BALANCE)
+                                .build()));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalanceBatch.Request(List.of(
+                                        new UseBalance.Request(1L, "1234567890", 1000L),
+                                        new UseBalance.Request(1L, "1234567890", 1000_000L)
+                                ))
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].transactionResult").value("S"))
+                .andExpect(jsonPath("$.results[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.results[1].transactionResult").value("F"))
+                .andExpect(jsonPath("$.results[1].errorCode").value("AMOUNT_EXCEED_BALANCE"));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 배치 실패 - 항목 검증 오류")
+    void useBalanceBatch_InvalidItem() throws Exception {
+        // when: 계좌 번호 길이가 잘못된 항목
+        // then: 서비스 호출 없이 오류 응답
+        mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalanceBatch.Request(List.of(
+                                        new UseBalance.Request(1L, "12345", 1000L)
+                                ))
+                        )))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").exists());
+
+        verify(transactionService, never()).useBalanceBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 배치 실패 - null 항목은 검증 오류(400)")
+    void useBalanceBatch_NullItem() throws Exception {
+        // when: items 에 null 이 섞인 요청
+        // then: Lock, 서비스 호출 없이 INVALID_REQUEST
+        mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"userId\":1,\"accountNumber\":\"1234567890\",\"amount\":1000},null]}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+
+        verify(transactionService, never()).useBalanceBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 - 성공")
+    void transferBalance() throws Exception {
+        // given: 출금, 입금 거래 저장 성공
+        LocalDateTime transactedAt = LocalDateTime.now();
+        given(transactionService.transferBalance(anyLong(), anyString(), anyString(), anyLong()))
+                .willReturn(List.of(
+                        TransactionDto.builder()
+                                .accountNumber("1234567890")
+                                .transactionType(TransactionType.TRANSFER_OUT)
+                                .transactedAt(transactedAt)
+                                .amount(10000L)
+                                .transactionId("withdrawTransactionId")
+                                .transactionResultType(TransactionResultType.S)
+                                .build(),
+                        TransactionDto.builder()
+                                .accountNumber("1234567891")
+                                .transactionType(TransactionType.TRANSFER_IN)
+                                .transactedAt(transactedAt)
+                                .amount(10000L)
+                                .transactionId("depositTransactionId")
+                                .transactionResultType(TransactionResultType.S)
+                                .build()));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new Transfer.Request(1L, "1234567890", "1234567891", 10000L)
+                        )))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromAccountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.toAccountNumber").value("1234567891"))
+                .andExpect(jsonPath("$.transactionResult").value("S"))
+                .andExpect(jsonPath("$.withdrawTransactionId").value("withdrawTransactionId"))
+                .andExpect(jsonPath("$.depositTransactionId").value("depositTransactionId"))
+                .andExpect(jsonPath("$.amount").value(10000));
+    }
+
     @Test
     @DisplayName("잔액 취소 - 성공")
     void cancelBalance() throws Exception {
@@ -100,6 +255,67 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(54321));
     }
 
+    @Test
+    @DisplayName("잔액 취소 실패 - 실패 거래는 비동기로 기록")
+    void cancelBalance_RecordFailure() throws Exception {
+        // given: 잔액 취소 실패
+        given(transactionService.cancelBalance(anyString(), anyString(), anyLong()))
+                .willThrow(new AccountException(CANCEL_MUST_FULLY));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CancelBalance.Request("transactionId", "1234567890", 10000L)
+                        )))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").value("CANCEL_MUST_FULLY"));
+
+        verify(failedTransactionRecorder).recordCancel("1234567890", 10000L);
+        verify(transactionService, never()).saveFailedTransactions(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패 - 낙관적 Lock 재시도 소진은 실패 거래를 남기지 않음")
+    void useBalance_RetryExhausted_NotRecorded() throws Exception {
+        // given: OptimisticRetryAspect 가 재시도를 다 쓰고 ACCOUNT_TRANSACTION_LOCK 으로 바꿔 던짐
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong()))
+                .willThrow(new AccountException(ACCOUNT_TRANSACTION_LOCK));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1234567890", 10000L)
+                        )))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").value("ACCOUNT_TRANSACTION_LOCK"));
+
+        verify(failedTransactionRecorder, never()).recordUse(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 취소 실패 - 낙관적 Lock 재시도 소진은 실패 거래를 남기지 않음")
+    void cancelBalance_RetryExhausted_NotRecorded() throws Exception {
+        // given
+        given(transactionService.cancelBalance(anyString(), anyString(), anyLong()))
+                .willThrow(new AccountException(ACCOUNT_TRANSACTION_LOCK));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CancelBalance.Request("transactionId", "1234567890", 10000L)
+                        )))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").value("ACCOUNT_TRANSACTION_LOCK"));
+
+        verify(failedTransactionRecorder, never()).recordCancel(anyString(), anyLong());
+    }
+
     @Test
     @DisplayName("거래 내역 조회 - 성공")
     void getQueryTransaction() throws Exception {
@@ -114,6 +330,11 @@ class TransactionControllerTest {
                         .transactionId("transactionId")
                         .transactionResultType(S).build());
 
+        // given: 캐시에 없어서 조회 후 직렬화
+        given(transactionQueryCache.getOrLoad(anyString(), any()))
+                .willAnswer(invocation -> objectMapper.writeValueAsBytes(QueryTransactionResponse.from(
+                        invocation.<Supplier<TransactionDto>>getArgument(1).get())));
+
         // when
         // then
         mockMvc.perform(get("/transaction/12345"))
@@ -125,4 +346,131 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.transactionId").value("transactionId"))
                 .andExpect(jsonPath("$.amount").value(12345));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 - 성공")
+    void getTransactionHistory() throws Exception {
+        // given
+        given(transactionService.getTransactionHistory(anyString(), any()))
+                .willReturn(new TransactionHistory.Response(
+                        List.of(new TransactionHistory.Item(42L, "transactionId", USE, S,
+                                1000L, 9000L, LocalDateTime.now())),
+                        "nextCursor"));
+
+        // when
+        // then: 커서용 id 는 응답에 포함하지 않음
+        mockMvc.perform(get("/account/1234567890/transactions")
+                        .param("type", "USE")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.transactions[0].balanceSnapShot").value(9000))
+                .andExpect(jsonPath("$.transactions[0].id").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 명세서 내보내기 - CSV 스트리밍")
+    void exportAccountStatement() throws Exception {
+        // given: 서비스가 응답 스트림에 직접 씀
+        given(statementService.writeAccountStatement(anyString(), any(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(2).write("header\nrow\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // when: 비동기로 쓰기 시작
+        MvcResult result = mockMvc.perform(get("/account/1234567890/statement")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"statement-1234567890.csv\""))
+                .andExpect(content().string("header\nrow\n"));
+        verify(statementService).validateAccount(eq("1234567890"), any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용(비동기) - Lock 을 얻은 뒤 처리 결과로 응답")
+    void useBalanceAsync() throws Exception {
+        // given: Lock 을 얻고 작업을 바로 실행
+        given(asyncAccountLockExecutor.supplyWithLock(anyString(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(
+                        invocation.<Supplier<?>>getArgument(1).get()));
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong()))
+                .willReturn(TransactionDto.builder()
+                        .accountNumber("1234567890")
+                        .transactedAt(LocalDateTime.now())
+                        .amount(12345L)
+                        .transactionId("transactionId")
+                        .transactionResultType(TransactionResultType.S)
+                        .build());
+
+        // when
+        MvcResult result = mockMvc.perform(post("/transaction/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1234567890", 12345L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.transactionId").value("transactionId"));
+        verify(asyncAccountLockExecutor).supplyWithLock(eq("1234567890"), any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용(비동기) 실패 - Lock 을 얻지 못한 요청은 실패 거래를 남기지 않음")
+    void useBalanceAsync_LockRejected() throws Exception {
+        // given: Lock 대기 시간 초과
+        given(asyncAccountLockExecutor.supplyWithLock(anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new AccountException(ACCOUNT_TRANSACTION_LOCK)));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/transaction/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1234567890", 12345L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then: 동기 API 처럼 기록하지 않음
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").value("ACCOUNT_TRANSACTION_LOCK"));
+        verify(failedTransactionRecorder, never()).recordUse(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 사용(비동기) 실패 - 처리 중 실패는 실패 거래로 기록")
+    void useBalanceAsync_RecordFailure() throws Exception {
+        // given: Lock 을 얻은 뒤 잔액 부족
+        given(asyncAccountLockExecutor.supplyWithLock(anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new AccountException(AMOUNT_EXCEED_BALANCE)));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/transaction/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1234567890", 12345L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode").value("AMOUNT_EXCEED_BALANCE"));
+        verify(failedTransactionRecorder).recordUse("1234567890", 12345L);
+    }
+}
@@ -0,0 +1,185 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.dto.AccountInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RFuture;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccountCacheTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    @Mock
+    private RFuture<Long> published;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getTopic(AccountCache.TOPIC, StringCodec.INSTANCE)).willReturn(topic);
+        given(topic.publishAsync(anyString())).willReturn(published);
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 담은 목록을 그대로 돌려줌(hit/miss 기록)")
+    void getAccountsByUserId() {
+        // given
+        AccountCache cache = cache(10, Duration.ofMinutes(1));
+        assertNull(cache.getAccountsByUserId(1L));
+
+        // when
+        cache.putAccounts(1L, List.of(account("1000000001", 100L), account("1000000002", 200L)), cache.generation());
+
+        // then
+        List<AccountInfo> cached = cache.getAccountsByUserId(1L);
+        assertEquals(2, cached.size());
+        assertEquals("1000000002", cached.get(1).getAccountNumber());
+        assertEquals(1.0, count("account.cache.gets", "user-accounts", "result", "miss"));
+        assertEquals(1.0, count("account.cache.gets", "user-accounts", "result", "hit"));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 잔액이 바뀐 계좌를 지우면 목록도 다시 읽음, 다른 서버에 알림")
+    void evictAccount() {
+        // given
+        AccountCache cache = cache(10, Duration.ofMinutes(1));
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), cache.generation());
+
+        // when: 트랜잭션 밖이면 바로 지움
+        cache.evictAccount("1000000001");
+
+        // then
+        assertNull(cache.getAccountsByUserId(1L));
+        verify(topic).publishAsync("A:1000000001");
+        assertEquals(1.0, count("account.cache.evictions", "accounts", "cause", "invalidated"));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 다른 서버의 무효화 메시지를 받으면 지움")
+    void evictLocal() {
+        // given
+        AccountCache cache = cache(10, Duration.ofMinutes(1));
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), cache.generation());
+
+        // when
+        cache.evictLocal("U:1");
+
+        // then
+        assertNull(cache.getAccountsByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 읽는 사이 무효화가 있었다면 담지 않음")
+    void putAccounts_Stale() {
+        // given: DB 에서 읽기 전에 generation 을 받아 둠
+        AccountCache cache = cache(10, Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        // when: 그 사이 다른 요청이 잔액을 바꿈
+        cache.evictAccount("1000000001");
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), generation);
+
+        // then
+        assertNull(cache.getAccountsByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 읽는 사이 다른 계좌만 무효화됐다면 담음")
+    void putAccounts_OtherKeyInvalidated() {
+        // given: DB 에서 읽기 전에 generation 을 받아 둠
+        AccountCache cache = cache(10, Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        // when: 그 사이 다른 유저의 계좌, 다른 유저 목록이 무효화됨
+        cache.evictAccount("2000000001");
+        cache.evictLocal("U:2");
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), generation);
+
+        // then
+        assertNotNull(cache.getAccountsByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 무효화 시점을 기억하는 키 수를 넘으면 그 전에 시작한 읽기는 담지 않음")
+    void putAccounts_InvalidationsOverflow() {
+        // given: 키 최대 1개, 읽기 전에 generation 을 받아 둠
+        AccountCache cache = cache(1, Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        // when: 계좌 1000000001 무효화 기록이 다음 무효화에 밀려 버려짐
+        cache.evictAccount("1000000001");
+        cache.evictAccount("2000000001");
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), generation);
+
+        // then: 무효화됐는지 알 수 없으므로 담지 않음
+        assertNull(cache.getAccountsByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - 크기를 넘으면 가장 오래 안 쓴 항목부터 버림")
+    void evictBySize() {
+        // given: 영역별 최대 1개
+        AccountCache cache = cache(1, Duration.ofMinutes(1));
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), cache.generation());
+
+        // when
+        cache.putAccounts(2L, List.of(account("1000000002", 200L)), cache.generation());
+
+        // then
+        assertNull(cache.getAccountsByUserId(1L));
+        assertNotNull(cache.getAccountsByUserId(2L));
+        assertEquals(1.0, count("account.cache.evictions", "user-accounts", "cause", "size"));
+    }
+
+    @Test
+    @DisplayName("계좌 캐시 - ttl 이 지나면 버림")
+    void evictByTtl() throws InterruptedException {
+        // given
+        AccountCache cache = cache(10, Duration.ofMillis(1));
+        cache.putAccounts(1L, List.of(account("1000000001", 100L)), cache.generation());
+
+        // when
+        Thread.sleep(5);
+
+        // then
+        assertNull(cache.getAccountsByUserId(1L));
+        assertEquals(1.0, count("account.cache.evictions", "user-accounts", "cause", "expired"));
+    }
+
+    private AccountCache cache(int maxSize, Duration ttl) {
+        AccountCache cache = new AccountCache(redissonClient, meterRegistry, true, maxSize, ttl);
+        cache.subscribe();
+        return cache;
+    }
+
+    private double count(String name, String cache, String key, String value) {
+        return meterRegistry.get(name).tag("cache", cache).tag(key, value).counter().count();
+    }
+
+    private static AccountInfo account(String accountNumber, Long balance) {
+        return new AccountInfo(accountNumber, balance);
+    }
+}
@@ -0,0 +1,126 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong rAtomicLong;
+
+    @Test
+    @DisplayName("계좌 번호 발급 - 첫 번호는 1000000000, 구간 안에서는 추가 조회 없음")
+    void allocateFromSequence() {
+        // given: 시퀀스가 0, 1 순서로 반환
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(0L, 1L);
+        AccountNumberAllocator allocator = new SequenceAccountNumberAllocator(jdbcTemplate, 2, "");
+
+        // when: 3번 발급(구간 크기 2)
+        // then: 연속된 번호, 시퀀스는 2번만 조회
+        assertEquals("1000000000", allocator.allocate());
+        assertEquals("1000000001", allocator.allocate());
+        assertEquals("1000000002", allocator.allocate());
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+    }
+
+    @Test
+    @DisplayName("계좌 번호 발급 - 서버 prefix")
+    void allocateWithNodePrefix() {
+        // given: Redis 카운터가 100을 반환(0 ~ 99 구간 예약)
+        given(redissonClient.getAtomicLong("ACNO:37")).willReturn(rAtomicLong);
+        given(rAtomicLong.addAndGet(anyLong())).willReturn(100L);
+        AccountNumberAllocator allocator = new RedisAccountNumberAllocator(redissonClient, 100, "37");
+
+        // when
+        // then: prefix + 0으로 채운 8자리 순번
+        assertEquals("3700000000", allocator.allocate());
+        assertEquals("3700000001", allocator.allocate());
+    }
+
+    @Test
+    @DisplayName("계좌 번호 발급 실패 - 번호 대역 소진")
+    void allocate_Exhausted() {
+        // given: prefix "9"의 마지막 구간(999999999 하나만 남음)
+        AccountNumberAllocator allocator = new BlockAccountNumberAllocator(1, "9") {
+            private long block = 999_999_999L;
+
+            @Override
+            protected long reserveBlock(int blockSize) {
+                return block++;
+            }
+        };
+
+        // when: 마지막 번호 다음 번호 발급 시도
+        assertEquals("9999999999", allocator.allocate());
+        AccountException exception = assertThrows(AccountException.class, allocator::allocate);
+
+        // then: Exception ACCOUNT_NUMBER_EXHAUSTED
+        assertEquals(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("계좌 번호 발급 - 동시에 발급해도 중복 없음")
+    void allocateConcurrently() throws Exception {
+        // given: 구간 예약 횟수를 세는 발급기
+        AtomicLong counter = new AtomicLong();
+        AtomicInteger reservations = new AtomicInteger();
+        AccountNumberAllocator allocator = new BlockAccountNumberAllocator(100, "") {
+            @Override
+            protected long reserveBlock(int blockSize) {
+                reservations.incrementAndGet();
+                return counter.getAndAdd(blockSize);
+            }
+        };
+
+        // when: 8개 스레드가 5000개씩 발급
+        int threads = 8;
+        int perThread = 5000;
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < perThread; j++) {
+                    accountNumbers.add(allocator.allocate());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then: 40000개 모두 다른 번호, 구간은 400번만 예약
+        assertEquals(threads * perThread, accountNumbers.size());
+        assertEquals(threads * perThread / 100, reservations.get());
+    }
+}
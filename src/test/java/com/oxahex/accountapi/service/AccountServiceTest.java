@@ -3,17 +3,20 @@ package com.oxahex.accountapi.service;
 import com.oxahex.accountapi.domain.Account;
 import com.oxahex.accountapi.domain.AccountUser;
 import com.oxahex.accountapi.dto.AccountDto;
+import com.oxahex.accountapi.dto.AccountInfo;
 import com.oxahex.accountapi.exception.AccountException;
 import com.oxahex.accountapi.repository.AccountRepository;
 import com.oxahex.accountapi.repository.AccountUserRepository;
 import com.oxahex.accountapi.type.AccountStatus;
 import com.oxahex.accountapi.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
@@ -24,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -37,6 +41,16 @@ class AccountServiceTest {
     @Mock
     AccountUserRepository accountUserRepository;
 
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Mock
+    private AccountCache accountCache;
+
+    // trace 가 없으므로 측정 없이 그대로 실행
+    @Spy
+    private StageMetrics stageMetrics = new StageMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private AccountService accountService;
 
@@ -48,9 +62,8 @@ class AccountServiceTest {
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
 
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(Account.builder()
-                        .accountNumber("1000000001").build()));
+        given(accountNumberAllocator.allocate())
+                .willReturn("1000000002");
 
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
@@ -66,33 +79,26 @@ class AccountServiceTest {
         verify(accountRepository, times(1)).save(captor.capture());     // 1번 save -> capture
         assertEquals(12L, accountDto.getUserId());
         assertEquals("1000000002", captor.getValue().getAccountNumber());
+        verify(accountCache).evictUser(12L, "1000000002");
     }
 
     @Test
-    @DisplayName("계좌 생성(기존 계좌가 없는 경우) - 성공")
-    void createFirstAccount() {
-        // given: 유저(userId: 1, name: "oxahex")
+    @DisplayName("계좌 생성 실패 - 발급 가능한 계좌 번호 없음")
+    void createAccount_AccountNumberExhausted() {
+        // given: 유저는 있지만 계좌 번호를 모두 소진함
         AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
+        given(accountNumberAllocator.allocate())
+                .willThrow(new AccountException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED));
 
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.empty());
-
-        given(accountRepository.save(any()))
-                .willReturn(Account.builder()
-                        .accountUser(user)
-                        .accountNumber("1000000009").build());      // 비정상 값
-
-        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
-
-        // when: 유저(userId: 1, name: "oxahex")가 첫 번째 계좌를 생성함
-        AccountDto accountDto = accountService.createAccount(1L, 10000L);
+        // when: 계좌 생성 시도
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountService.createAccount(1L, 10000L));
 
-        // then: 생성된 계좌의 유저 id = 1, accountNumber = 1000000000
-        verify(accountRepository, times(1)).save(captor.capture());     // 1번 save -> capture
-        assertEquals(1L, accountDto.getUserId());
-        assertEquals("1000000000", captor.getValue().getAccountNumber());
+        // then: Exception ACCOUNT_NUMBER_EXHAUSTED, 저장하지 않음
+        assertEquals(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED, exception.getErrorCode());
+        verify(accountRepository, times(0)).save(any());
     }
 
     @Test
@@ -258,39 +264,65 @@ class AccountServiceTest {
     @Test
     @DisplayName("계좌 조회 - 성공")
     void getAccountsByUserId() {
-        // given: 유저가 존재함
-        AccountUser user = AccountUser.builder().id(1L).name("user").build();
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(user));
-
-        // given: 계좌가 3개 존재함
-        List<Account> accounts = Arrays.asList(
-                Account.builder().accountUser(user).accountNumber("1234567890").balance(10000L).build(),
-                Account.builder().accountUser(user).accountNumber("1234567891").balance(20000L).build(),
-                Account.builder().accountUser(user).accountNumber("1234567892").balance(30000L).build()
+        // given: 유저의 계좌가 3개 존재함
+        List<AccountInfo> accountInfos = Arrays.asList(
+                new AccountInfo("1234567890", 10000L),
+                new AccountInfo("1234567891", 20000L),
+                new AccountInfo("1234567892", 30000L)
         );
-        given(accountRepository.findByAccountUser(any()))
-                .willReturn(accounts);
+        given(accountRepository.findAccountInfosByUserId(anyLong()))
+                .willReturn(accountInfos);
+
+        // when
+        List<AccountInfo> result = accountService.getAccountsByUserId(1L);
+
+        // then: 개수, 계좌 정보(유저 조회 없이 projection 한 번)
+        assertEquals(3, result.size());
+        assertEquals("1234567890", result.get(0).getAccountNumber());
+        assertEquals(10000, result.get(0).getBalance());
+        assertEquals("1234567891", result.get(1).getAccountNumber());
+        assertEquals(20000, result.get(1).getBalance());
+        assertEquals("1234567892", result.get(2).getAccountNumber());
+        assertEquals(30000, result.get(2).getBalance());
+        verify(accountUserRepository, never()).findById(anyLong());
+        verify(accountCache).putAccounts(eq(1L), eq(result), anyLong());
+    }
+
+    @Test
+    @DisplayName("계좌 조회 - 유저는 있지만 계좌 없음")
+    void getAccountsByUserId_NoAccount() {
+        // given: 조인 결과가 null 행 하나
+        given(accountRepository.findAccountInfosByUserId(anyLong()))
+                .willReturn(List.of(new AccountInfo(null, null)));
+
+        // when
+        List<AccountInfo> result = accountService.getAccountsByUserId(1L);
+
+        // then
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    @DisplayName("계좌 조회 - 캐시에 있으면 DB 조회 없음")
+    void getAccountsByUserId_Cached() {
+        // given: 캐시에 계좌 목록이 있음
+        given(accountCache.getAccountsByUserId(1L))
+                .willReturn(List.of(new AccountInfo("1234567890", 10000L)));
 
         // when
-        List<AccountDto> accountDtos = accountService.getAccountsByUserId(1L);
-
-        // then: 개수, 계좌 정보
-        assertEquals(3, accountDtos.size());
-        assertEquals("1234567890", accountDtos.get(0).getAccountNumber());
-        assertEquals(10000, accountDtos.get(0).getBalance());
-        assertEquals("1234567891", accountDtos.get(1).getAccountNumber());
-        assertEquals(20000, accountDtos.get(1).getBalance());
-        assertEquals("1234567892", accountDtos.get(2).getAccountNumber());
-        assertEquals(30000, accountDtos.get(2).getBalance());
+        List<AccountInfo> result = accountService.getAccountsByUserId(1L);
+
+        // then
+        assertEquals(1, result.size());
+        verify(accountRepository, never()).findAccountInfosByUserId(anyLong());
     }
 
     @Test
     @DisplayName("계좌 조회 실패 - 유저 없음")
     void getAccountsByUserId_UserNotFound() {
-        // given: 유저 없음
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.empty());
+        // given: 유저 없음(조인 결과 없음)
+        given(accountRepository.findAccountInfosByUserId(anyLong()))
+                .willReturn(List.of());
 
         // when: 유저가 없는데 계좌 조회 시도
         AccountException exception = assertThrows(AccountException.class,
@@ -299,4 +331,4 @@ class AccountServiceTest {
         // then: Exception USER_NOT_FOUND
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ConcurrencyMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.oxahex.accountapi.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.oxahex.accountapi.type.ErrorCode.SERVER_BUSY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAccountLockExecutorTest {
+    @Mock
+    private AccountLockProvider accountLockProvider;
+
+    @Mock
+    private AsyncAccountLockProvider asyncLockProvider;
+
+    private final LockMetrics lockMetrics =
+            new LockMetrics(new SimpleMeterRegistry(), "redis", Duration.ofMillis(100), 10);
+
+    private AsyncAccountLockExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("비동기 Lock - Lock 을 얻으면 풀에서 처리하고 같은 ownerId 로 해제")
+    void supplyWithLock() throws Exception {
+        // given
+        executor = new AsyncAccountLockExecutor(asyncLockProvider, lockMetrics, ConcurrencyMode.LOCK, 1, 1);
+        given(asyncLockProvider.lockAsync(eq("1234567890"), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(asyncLockProvider.unlockAsync(eq("1234567890"), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        String thread = executor.supplyWithLock("1234567890", () -> Thread.currentThread().getName())
+                .get(1, TimeUnit.SECONDS);
+
+        // then: 요청 스레드가 아닌 풀 스레드에서 처리, ownerId 는 음수
+        assertTrue(thread.startsWith("account-lock-async-"));
+        verify(asyncLockProvider).unlockAsync("1234567890", Long.MIN_VALUE);
+        verify(asyncLockProvider, never()).lock(anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 Lock - 작업이 실패해도 Lock 을 풀고 예외로 완료")
+    void supplyWithLock_WorkFailed() {
+        // given
+        executor = new AsyncAccountLockExecutor(asyncLockProvider, lockMetrics, ConcurrencyMode.LOCK, 1, 1);
+        given(asyncLockProvider.lockAsync(anyString(), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(asyncLockProvider.unlockAsync(anyString(), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> executor.supplyWithLock("1234567890", () -> {
+                    throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+                }).get(1, TimeUnit.SECONDS));
+
+        // then
+        assertInstanceOf(AccountException.class, exception.getCause());
+        verify(asyncLockProvider).unlockAsync(eq("1234567890"), anyLong());
+    }
+
+    @Test
+    @DisplayName("비동기 Lock - Lock 을 얻지 못하면 작업도 해제도 하지 않음")
+    void supplyWithLock_LockFailed() {
+        // given
+        executor = new AsyncAccountLockExecutor(asyncLockProvider, lockMetrics, ConcurrencyMode.LOCK, 1, 1);
+        given(asyncLockProvider.lockAsync(anyString(), anyLong()))
+                .willReturn(CompletableFuture.failedFuture(new AccountException(ACCOUNT_TRANSACTION_LOCK)));
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> executor.supplyWithLock("1234567890", () -> executed.getAndSet(true))
+                        .get(1, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(ACCOUNT_TRANSACTION_LOCK, ((AccountException) exception.getCause()).getErrorCode());
+        assertFalse(executed.get());
+        verify(asyncLockProvider, never()).unlockAsync(anyString(), anyLong());
+        assertEquals(1, lockMetrics.hotAccounts(10).get(0).getRejected());
+    }
+
+    @Test
+    @DisplayName("비동기 Lock - 풀과 대기열이 가득 차면 SERVER_BUSY")
+    void supplyWithLock_ServerBusy() throws Exception {
+        // given: 스레드 1개, 대기열 1개를 채움(Lock 없는 모드)
+        executor = new AsyncAccountLockExecutor(accountLockProvider, lockMetrics, ConcurrencyMode.ATOMIC, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.supplyWithLock("1", () -> await(release));
+        CompletableFuture<Boolean> queued = executor.supplyWithLock("2", () -> await(release));
+
+        // when
+        CompletableFuture<Boolean> rejected = executor.supplyWithLock("3", () -> true);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertEquals(SERVER_BUSY, ((AccountException) exception.getCause()).getErrorCode());
+        release.countDown();
+        assertTrue(running.get(1, TimeUnit.SECONDS));
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("비동기 Lock - AsyncAccountLockProvider 가 아닌 Lock(local)은 풀 스레드에서 잡고 풂")
+    void supplyWithLock_Blocking() throws Exception {
+        // given
+        executor = new AsyncAccountLockExecutor(accountLockProvider, lockMetrics, ConcurrencyMode.LOCK, 1, 1);
+
+        // when
+        Integer result = executor.supplyWithLock("1234567890", () -> 1).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1, result);
+        verify(accountLockProvider).lock("1234567890");
+        verify(accountLockProvider).unlock("1234567890");
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.dto.FailedTransaction;
+import com.oxahex.accountapi.type.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.oxahex.accountapi.type.TransactionType.CANCEL;
+import static com.oxahex.accountapi.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FailedTransactionRecorderTest {
+    @Mock
+    private TransactionService transactionService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("실패 거래 기록 - 종료 시 남은 요청을 모아서 저장")
+    void flushOnStop() throws InterruptedException {
+        // given: writer 를 시작하지 않은 상태에서 3건 기록(큐에만 쌓임)
+        FailedTransactionRecorder recorder = recorder(10, 2, OverflowPolicy.DROP);
+        List<FailedTransaction> saved = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<FailedTransaction> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            saved.addAll(batch);
+            return null;
+        }).given(transactionService).saveFailedTransactions(anyList());
+
+        recorder.recordUse("1000000001", 1000L);
+        recorder.recordCancel("1000000002", 2000L);
+        recorder.recordUse("1000000003", 3000L);
+        verify(transactionService, never()).saveFailedTransactions(anyList());
+
+        // when
+        recorder.stop();
+
+        // then: batch-size(2) 단위로 모두 저장, 순서 유지
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(3, saved.size());
+        assertEquals(USE, saved.get(0).getTransactionType());
+        assertEquals(CANCEL, saved.get(1).getTransactionType());
+        assertEquals("1000000003", saved.get(2).getAccountNumber());
+        assertEquals(0.0, meterRegistry.get("account.failed-transaction.queue").gauge().value());
+    }
+
+    @Test
+    @DisplayName("실패 거래 기록 - writer 가 백그라운드에서 저장")
+    void writeInBackground() throws InterruptedException {
+        // given
+        FailedTransactionRecorder recorder = recorder(10, 100, OverflowPolicy.DROP);
+        recorder.start();
+
+        // when
+        recorder.recordUse("1000000001", 1000L);
+
+        // then: 요청 스레드가 아닌 writer 가 저장
+        verify(transactionService, timeout(1000)).saveFailedTransactions(anyList());
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("실패 거래 기록 - 큐가 가득 차면 버리고 카운터 증가(drop)")
+    void dropOnOverflow() throws InterruptedException {
+        // given: 큐 크기 2
+        FailedTransactionRecorder recorder = recorder(2, 100, OverflowPolicy.DROP);
+
+        // when: 3건 기록
+        recorder.recordUse("1000000001", 1000L);
+        recorder.recordUse("1000000002", 1000L);
+        recorder.recordUse("1000000003", 1000L);
+
+        // then: 1건 버림
+        assertEquals(1.0, meterRegistry.get("account.failed-transaction.dropped")
+                .tag("reason", "overflow").counter().count());
+        assertEquals(2.0, meterRegistry.get("account.failed-transaction.queue").gauge().value());
+    }
+
+    @Test
+    @DisplayName("실패 거래 기록 - 저장 실패 시 해당 배치는 버리고 카운터 증가")
+    void dropOnWriteError() throws InterruptedException {
+        // given: 저장 중 예외
+        FailedTransactionRecorder recorder = recorder(10, 100, OverflowPolicy.DROP);
+        willThrow(new IllegalStateException("db down"))
+                .given(transactionService).saveFailedTransactions(anyList());
+        recorder.recordUse("1000000001", 1000L);
+        recorder.recordUse("1000000002", 1000L);
+
+        // when
+        recorder.stop();
+
+        // then
+        assertEquals(2.0, meterRegistry.get("account.failed-transaction.dropped")
+                .tag("reason", "error").counter().count());
+    }
+
+    private FailedTransactionRecorder recorder(int capacity, int batchSize, OverflowPolicy policy) {
+        return new FailedTransactionRecorder(transactionService, meterRegistry, capacity, batchSize, policy);
+    }
+}
@@ -0,0 +1,97 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectorTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("지연 주입 - endpoint 와 단계가 맞는 규칙만 적용")
+    void inject() {
+        // given
+        request("POST", "/transaction/use");
+        FaultInjector faultInjector = new FaultInjector(true, List.of(
+                "POST /transaction/use inside-lock 20ms",
+                "POST /transaction/cancel inside-lock 1s"));
+
+        // when
+        long start = System.nanoTime();
+        faultInjector.inject(FaultInjector.INSIDE_LOCK);
+        faultInjector.inject(FaultInjector.DB);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsed >= 20);
+        assertTrue(elapsed < 1000);
+    }
+
+    @Test
+    @DisplayName("오류 주입 - 비율만큼 지정한 오류 코드로 실패")
+    void inject_Fail() {
+        // given: 요청 스레드가 아니어도 * 규칙은 적용
+        FaultInjector faultInjector = new FaultInjector(true, List.of("* db 0ms fail=1.0:INTERNAL_SERVER_ERROR"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> faultInjector.inject(FaultInjector.DB));
+
+        // then
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("지연 주입 - 꺼져 있으면 규칙이 있어도 적용하지 않음")
+    void inject_Disabled() {
+        // given
+        FaultInjector faultInjector = new FaultInjector(false, List.of("* db 0ms fail=1.0:INTERNAL_SERVER_ERROR"));
+
+        // when
+        // then
+        assertDoesNotThrow(() -> faultInjector.inject(FaultInjector.DB));
+    }
+
+    @Test
+    @DisplayName("지연 주입 - 알 수 없는 단계는 시작할 때 거절")
+    void invalidRule() {
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FaultInjector(true, List.of("* commit 10ms")));
+
+        // then
+        assertEquals("Unknown fault stage: commit", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("오류 주입 - 오류 코드가 빠진 규칙은 시작할 때 거절")
+    void invalidRule_MissingErrorCode() {
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FaultInjector(true, List.of("* db 1ms fail=0.1:")));
+
+        // then
+        assertEquals("Invalid fault rule: * db 1ms fail=0.1:", exception.getMessage());
+    }
+
+    private static void request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
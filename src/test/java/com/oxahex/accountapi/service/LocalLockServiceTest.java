@@ -0,0 +1,138 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalLockServiceTest {
+    private final LocalLockService lockService = new LocalLockService(1024);
+
+    @Test
+    @DisplayName("Local Lock 얻어오기 - 성공")
+    void getLock() {
+        // when: 아무도 Lock 을 잡고 있지 않은 경우
+        // then
+        assertDoesNotThrow(() -> lockService.lock("1234567890"));
+        assertDoesNotThrow(() -> lockService.unlock("1234567890"));
+    }
+
+    @Test
+    @DisplayName("Local Lock 얻어오기 - 실패(다른 스레드가 사용 중)")
+    void getLock_Fail() throws Exception {
+        // given: 다른 스레드가 같은 계좌 Lock 을 잡고 있음
+        lockService.lock("1234567890");
+
+        try {
+            // when: 다른 스레드에서 같은 계좌 Lock 요청
+            Throwable thrown = lockOnAnotherThread("1234567890");
+
+            // then: Exception ACCOUNT_TRANSACTION_LOCK
+            AccountException exception = assertInstanceOf(AccountException.class, thrown);
+            assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        } finally {
+            lockService.unlock("1234567890");
+        }
+    }
+
+    @Test
+    @DisplayName("Local Lock 얻어오기 - 다른 계좌는 영향 없음")
+    void getLock_OtherAccount() throws Exception {
+        // given: stripe 2개 -> 서로 다른 stripe 에 걸리는 두 계좌
+        LocalLockService twoStripes = new LocalLockService(2);
+        twoStripes.lock("1000000000");
+
+        try {
+            // when: 다른 스레드에서 다른 stripe 의 계좌 Lock 요청
+            // then: 기다리지 않고 성공
+            assertNull(lockOnAnotherThread(twoStripes, "1000000001"));
+        } finally {
+            twoStripes.unlock("1000000000");
+        }
+    }
+
+    @Test
+    @DisplayName("Local Lock 해제 - Lock 없이 해제하면 예외")
+    void unlock_NotLocked() {
+        assertThrows(IllegalMonitorStateException.class,
+                () -> lockService.unlock("1234567890"));
+    }
+
+    @Test
+    @DisplayName("Local Lock 여러 개 얻어오기 - 하나라도 실패하면 얻은 Lock 모두 해제")
+    void lockAll_Fail() throws Exception {
+        // given: 다른 스레드가 계좌 하나의 Lock 을 잡고 있음
+        lockService.lock("1000000002");
+
+        try {
+            // when: 다른 스레드에서 세 계좌 Lock 을 한 번에 요청
+            Throwable thrown = CompletableFuture.supplyAsync(() -> {
+                try {
+                    lockService.lockAll(List.of("1000000003", "1000000001", "1000000002"));
+                    return null;
+                } catch (AccountException e) {
+                    return (Throwable) e;
+                }
+            }).get();
+
+            // then: 실패, 먼저 얻은 1000000001 Lock 은 풀려 있음
+            assertInstanceOf(AccountException.class, thrown);
+            assertNull(lockOnAnotherThread("1000000001"));
+        } finally {
+            lockService.unlock("1000000002");
+        }
+    }
+
+    @Test
+    @DisplayName("Local Lock 여러 개 얻어오기 - 계좌 번호와 stripe 순서가 엇갈려도 교착 없음")
+    void lockAll_StripeOrder() throws Exception {
+        // given: stripe 2개 -> 1000000001, 1000000003 이 한 stripe, 1000000002, 1000000004 가 다른 stripe
+        // 계좌 번호 순서로 잡으면 두 요청이 두 stripe 를 반대 순서로 잡게 됨
+        LocalLockService twoStripes = new LocalLockService(2);
+        List<String> first = List.of("1000000001", "1000000004");
+        List<String> second = List.of("1000000002", "1000000003");
+
+        // when: 두 스레드가 동시에 반복해서 lockAll -> unlockAll
+        CompletableFuture<Throwable> a = CompletableFuture.supplyAsync(() -> lockAllRepeatedly(twoStripes, first));
+        CompletableFuture<Throwable> b = CompletableFuture.supplyAsync(() -> lockAllRepeatedly(twoStripes, second));
+
+        // then: Lock 대기 시간 초과 없이 모두 성공
+        assertNull(a.get());
+        assertNull(b.get());
+    }
+
+    private static Throwable lockAllRepeatedly(LocalLockService service, List<String> accountNumbers) {
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                service.lockAll(accountNumbers);
+                service.unlockAll(accountNumbers);
+            }
+            return null;
+        } catch (AccountException e) {
+            return e;
+        }
+    }
+
+    private Throwable lockOnAnotherThread(String accountNumber) throws ExecutionException, InterruptedException {
+        return lockOnAnotherThread(lockService, accountNumber);
+    }
+
+    private static Throwable lockOnAnotherThread(LocalLockService service, String accountNumber)
+            throws ExecutionException, InterruptedException {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                service.lock(accountNumber);
+                service.unlock(accountNumber);
+                return null;
+            } catch (AccountException e) {
+                return (Throwable) e;
+            }
+        }).get();
+    }
+}
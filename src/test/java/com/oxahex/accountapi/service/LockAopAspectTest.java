@@ -1,6 +1,7 @@
 package com.oxahex.accountapi.service;
 
 import com.oxahex.accountapi.dto.UseBalance;
+import com.oxahex.accountapi.dto.UseBalanceBatch;
 import com.oxahex.accountapi.exception.AccountException;
 import com.oxahex.accountapi.type.ErrorCode;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -12,16 +13,31 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LockAopAspectTest {
     @Mock
-    private LockService lockService;
+    private AccountLockProvider accountLockProvider;
+
+    @Mock
+    private LockMetrics lockMetrics;
+
+    @Mock
+    private StageMetrics stageMetrics;
+
+    @Mock
+    private FaultInjector faultInjector;
 
     @Mock
     ProceedingJoinPoint proceedingJoinPoint;
@@ -44,9 +60,9 @@ class LockAopAspectTest {
         lockAopAspect.aroundMethod(proceedingJoinPoint, request);
 
         // then
-        verify(lockService, times(1))
+        verify(accountLockProvider, times(1))
                 .lock(lockArgumentCaptor.capture());
-        verify(lockService, times(1))
+        verify(accountLockProvider, times(1))
                 .unlock(unlockArgumentCaptor.capture());
         assertEquals("1234567890", lockArgumentCaptor.getValue());
         assertEquals("1234567890", unlockArgumentCaptor.getValue());
@@ -70,11 +86,51 @@ class LockAopAspectTest {
                 () -> lockAopAspect.aroundMethod(proceedingJoinPoint, request));
 
         // then: 예외가 있더라도 Lock, Unlock 동작은 영향 받지 않음
-        verify(lockService, times(1))
+        verify(accountLockProvider, times(1))
                 .lock(lockArgumentCaptor.capture());
-        verify(lockService, times(1))
+        verify(accountLockProvider, times(1))
                 .unlock(unlockArgumentCaptor.capture());
         assertEquals("54321", lockArgumentCaptor.getValue());
         assertEquals("54321", unlockArgumentCaptor.getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("배치 Lock, Unlock - 대상 계좌를 한 번에 처리")
+    void lockAllAndUnlockAll() throws Throwable {
+        // given: 같은 계좌가 여러 번 들어 있는 배치 Request
+        UseBalanceBatch.Request request = new UseBalanceBatch.Request(List.of(
+                new UseBalance.Request(1L, "1000000002", 1000L),
+                new UseBalance.Request(1L, "1000000001", 1000L),
+                new UseBalance.Request(1L, "1000000002", 1000L)
+        ));
+        given(proceedingJoinPoint.proceed())
+                .willThrow(new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        // when
+        assertThrows(AccountException.class,
+                () -> lockAopAspect.aroundBatchMethod(proceedingJoinPoint, request));
+
+        // then: 중복 없이 한 번에 Lock, 예외가 있어도 Unlock
+        verify(accountLockProvider, times(1)).lockAll(Set.of("1000000001", "1000000002"));
+        verify(accountLockProvider, times(1)).unlockAll(Set.of("1000000001", "1000000002"));
+    }
+
+    @Test
+    @DisplayName("Lock 실패 - 거절을 기록하고 처리, Unlock 하지 않음")
+    void lock_Rejected() throws Throwable {
+        // given: 다른 요청이 Lock 을 잡고 있음
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234567890", 1000L);
+        willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .given(accountLockProvider).lock("1234567890");
+
+        // when
+        assertThrows(AccountException.class,
+                () -> lockAopAspect.aroundMethod(proceedingJoinPoint, request));
+
+        // then
+        verify(lockMetrics).rejected("1234567890");
+        verify(proceedingJoinPoint, never()).proceed();
+        verify(accountLockProvider, never()).unlock(anyString());
+    }
+}
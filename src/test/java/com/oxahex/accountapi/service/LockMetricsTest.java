@@ -0,0 +1,52 @@
+package com.oxahex.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LockMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockMetrics lockMetrics = new LockMetrics(meterRegistry, "redis", Duration.ofMillis(100), 2);
+
+    @Test
+    @DisplayName("Lock 메트릭 - 대기/보유 시간, 거절 기록")
+    void record() {
+        // when
+        lockMetrics.acquired("1000000001", TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.held(TimeUnit.MILLISECONDS.toNanos(30));
+        lockMetrics.rejected("1000000001");
+
+        // then
+        assertEquals(1, meterRegistry.get("account.lock.wait")
+                .tag("provider", "redis").tag("scope", "single").timer().count());
+        assertEquals(30.0, meterRegistry.get("account.lock.hold").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1.0, meterRegistry.get("account.lock.rejections").counter().count());
+    }
+
+    @Test
+    @DisplayName("Lock 메트릭 - 경합이 많은 계좌 순으로, 최근 max-accounts 개만 보관")
+    void hotAccounts() {
+        // given: 짧은 대기는 경합으로 세지 않음
+        lockMetrics.acquired("1000000001", TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.acquired("1000000002", TimeUnit.MILLISECONDS.toNanos(200));
+        lockMetrics.rejected("1000000003");
+        lockMetrics.rejected("1000000003");
+        lockMetrics.leaseExpired("1000000004");
+
+        // when
+        List<LockMetrics.Contention> hotAccounts = lockMetrics.hotAccounts(10);
+
+        // then: 최대 2개라 가장 오래된 1000000002 는 빠짐
+        assertEquals(2, hotAccounts.size());
+        assertEquals("1000000003", hotAccounts.get(0).getAccountNumber());
+        assertEquals(2, hotAccounts.get(0).getRejected());
+        assertEquals("1000000004", hotAccounts.get(1).getAccountNumber());
+        assertEquals(1, hotAccounts.get(1).getLeaseExpired());
+    }
+}
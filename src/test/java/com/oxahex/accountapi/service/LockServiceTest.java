@@ -8,12 +8,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LockServiceTest {
@@ -23,6 +32,12 @@ class LockServiceTest {
     @Mock
     private RLock rLock;
 
+    @Mock
+    private RFuture<Boolean> lockFuture;
+
+    @Mock
+    private LockMetrics lockMetrics;
+
     @InjectMocks
     private LockService lockService;
 
@@ -56,4 +71,118 @@ class LockServiceTest {
         // then
         assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Lock 얻어오기 - Redis 오류면 오류를 기록하고 실패(비동기 Lock 과 같음)")
+    void getLock_RedisError() throws InterruptedException {
+        // given: tryLock -> Redis 오류
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.tryLock(anyLong(), anyLong(), any()))
+                .willThrow(new RedisException("Connection refused"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> lockService.lock("123"));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(lockMetrics).error("lock");
+    }
+
+    @Test
+    @DisplayName("여러 계좌 Lock 얻어오기 - Redis 오류면 Lock 없이 진행하지 않고 실패")
+    void lockAll_RedisError() throws InterruptedException {
+        // given: tryLock -> Redis 오류
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(redissonClient.getMultiLock(rLock))
+                .willReturn(rLock);
+        given(rLock.tryLock(anyLong(), anyLong(), any()))
+                .willThrow(new RedisException("Connection refused"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> lockService.lockAll(List.of("123")));
+
+        // then: ACCOUNT_TRANSACTION_LOCK, 오류 기록
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(lockMetrics).error("lock");
+    }
+
+    @Test
+    @DisplayName("여러 계좌 Lock 얻어오기 - 대기 중 인터럽트면 실패, 인터럽트 상태 유지")
+    void lockAll_Interrupted() throws InterruptedException {
+        // given: tryLock -> 인터럽트
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(redissonClient.getMultiLock(rLock))
+                .willReturn(rLock);
+        given(rLock.tryLock(anyLong(), anyLong(), any()))
+                .willThrow(new InterruptedException());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> lockService.lockAll(List.of("123")));
+
+        // then: 인터럽트 상태를 되돌려 놓음(확인하면서 지움)
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    @DisplayName("비동기 Lock 얻어오기 - 실패하면 ACCOUNT_TRANSACTION_LOCK 으로 완료")
+    void lockAsync_Fail() {
+        // given: tryLockAsync -> 실패
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.tryLockAsync(anyLong(), anyLong(), any(), anyLong()))
+                .willReturn(lockFuture);
+        given(lockFuture.toCompletableFuture())
+                .willReturn(CompletableFuture.completedFuture(false));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> lockService.lockAsync("123", Long.MIN_VALUE).join());
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, ((AccountException) exception.getCause()).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("비동기 Lock 얻어오기 - Redis 오류면 오류를 기록하고 ACCOUNT_TRANSACTION_LOCK 으로 완료")
+    void lockAsync_RedisError() {
+        // given: tryLockAsync -> Redis 연결 오류
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.tryLockAsync(anyLong(), anyLong(), any(), anyLong()))
+                .willReturn(lockFuture);
+        given(lockFuture.toCompletableFuture())
+                .willReturn(CompletableFuture.failedFuture(new RedisException("Connection refused")));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> lockService.lockAsync("123", Long.MIN_VALUE).join());
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, ((AccountException) exception.getCause()).getErrorCode());
+        verify(lockMetrics).error("lock");
+    }
+
+    @Test
+    @DisplayName("Lock 해제 - lease 가 지나 이미 풀린 Lock 은 예외 없이 기록만")
+    void unlock_LeaseExpired() {
+        // given: 현재 스레드가 소유하지 않은 Lock
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        willThrow(new IllegalMonitorStateException("attempt to unlock lock, not locked by current thread"))
+                .given(rLock).unlock();
+
+        // when
+        assertDoesNotThrow(() -> lockService.unlock("123"));
+
+        // then
+        verify(lockMetrics).leaseExpired("123");
+        verify(lockMetrics, never()).error(anyString());
+    }
+}
@@ -0,0 +1,95 @@
+package com.oxahex.accountapi.service;
+
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryAspectTest {
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OptimisticRetryAspect optimisticRetryAspect;
+
+    @BeforeEach
+    void setUp() {
+        optimisticRetryAspect = new OptimisticRetryAspect(meterRegistry, 3, 1, 2);
+        given(proceedingJoinPoint.getSignature()).willReturn(signature);
+        given(signature.getName()).willReturn("useBalance");
+    }
+
+    @Test
+    @DisplayName("버전 충돌 후 재시도 - 성공")
+    void retryUntilSuccess() throws Throwable {
+        // given: 두 번 충돌 후 성공
+        given(proceedingJoinPoint.proceed())
+                .willThrow(conflict())
+                .willThrow(conflict())
+                .willReturn("result");
+
+        // when
+        Object result = optimisticRetryAspect.aroundMethod(proceedingJoinPoint);
+
+        // then: 3번 실행, 재시도 2회 기록
+        assertEquals("result", result);
+        verify(proceedingJoinPoint, times(3)).proceed();
+        assertEquals(2, meterRegistry.counter("account.optimistic.retries", "method", "useBalance").count());
+    }
+
+    @Test
+    @DisplayName("버전 충돌 재시도 실패 - 재시도 예산 소진")
+    void retry_Exhausted() throws Throwable {
+        // given: 계속 충돌
+        given(proceedingJoinPoint.proceed()).willThrow(conflict());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> optimisticRetryAspect.aroundMethod(proceedingJoinPoint));
+
+        // then: 최대 3번 실행 후 ACCOUNT_TRANSACTION_LOCK
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(proceedingJoinPoint, times(3)).proceed();
+        assertEquals(1, meterRegistry.counter("account.optimistic.exhausted", "method", "useBalance").count());
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외는 재시도하지 않음")
+    void noRetry_OtherException() throws Throwable {
+        // given: 잔액 부족
+        given(proceedingJoinPoint.proceed())
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> optimisticRetryAspect.aroundMethod(proceedingJoinPoint));
+
+        // then: 1번만 실행
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(proceedingJoinPoint, times(1)).proceed();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("Account", 1L);
+    }
+}
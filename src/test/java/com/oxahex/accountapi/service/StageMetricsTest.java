@@ -0,0 +1,74 @@
+package com.oxahex.accountapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("단계별 시간 - 요청이 끝날 때 결과(오류 코드)와 함께 기록")
+    void finish() {
+        // given
+        stageMetrics.begin();
+        stageMetrics.handlerEntered();
+        stageMetrics.record("lock", TimeUnit.MILLISECONDS.toNanos(7));
+        String account = stageMetrics.time("account-load", () -> "1234567890");
+        stageMetrics.handlerReturned("AMOUNT_EXCEED_BALANCE");
+
+        // when
+        stageMetrics.finish("POST /transaction/use");
+
+        // then
+        assertEquals("1234567890", account);
+        assertEquals(7.0, meterRegistry.get(StageMetrics.METRIC)
+                .tag("endpoint", "POST /transaction/use")
+                .tag("stage", "lock")
+                .tag("result", "F")
+                .tag("error", "AMOUNT_EXCEED_BALANCE")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        for (String stage : new String[]{"request", "account-load", "response", "total"}) {
+            assertEquals(1, meterRegistry.get(StageMetrics.METRIC).tag("stage", stage).timer().count());
+        }
+    }
+
+    @Test
+    @DisplayName("단계별 시간 - Server-Timing 값(같은 단계는 합산, DB 시간과 문장 수 포함)")
+    void finish_ServerTiming() {
+        // given: 낙관적 락 재시도로 account-load 가 두 번
+        stageMetrics.begin();
+        stageMetrics.record("lock", TimeUnit.MILLISECONDS.toNanos(7));
+        stageMetrics.record("account-load", TimeUnit.MILLISECONDS.toNanos(1));
+        stageMetrics.record("account-load", TimeUnit.MILLISECONDS.toNanos(2));
+        StageMetrics.statementPrepared();
+        StageMetrics.statementPrepared();
+        StageMetrics.jdbcExecuted(TimeUnit.MICROSECONDS.toNanos(1500));
+
+        // when
+        String serverTiming = stageMetrics.finish("POST /transaction/use");
+
+        // then
+        assertTrue(serverTiming.startsWith("lock;dur=7.0, account-load;dur=3.0"));
+        assertTrue(serverTiming.contains("db;dur=1.5;desc=\"2 statements\""));
+        assertTrue(serverTiming.contains("total;dur="));
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC).tag("stage", "db").timer().count());
+    }
+
+    @Test
+    @DisplayName("단계별 시간 - trace 가 없으면 측정하지 않고 실행만")
+    void withoutTrace() {
+        // when
+        String result = stageMetrics.time("account-load", () -> "ok");
+        stageMetrics.finish("POST /transaction/use");
+
+        // then
+        assertEquals("ok", result);
+        assertNull(meterRegistry.find(StageMetrics.METRIC).timer());
+    }
+}
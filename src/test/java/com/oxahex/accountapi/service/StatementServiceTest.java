@@ -0,0 +1,150 @@
+package com.oxahex.accountapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.oxahex.accountapi.domain.Account;
+import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.dto.Statement;
+import com.oxahex.accountapi.exception.AccountException;
+import com.oxahex.accountapi.repository.AccountRepository;
+import com.oxahex.accountapi.repository.AccountUserRepository;
+import com.oxahex.accountapi.repository.TransactionRepository;
+import com.oxahex.accountapi.type.StatementFormat;
+import com.oxahex.accountapi.type.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.oxahex.accountapi.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.oxahex.accountapi.type.ErrorCode.INVALID_REQUEST;
+import static com.oxahex.accountapi.type.TransactionResultType.S;
+import static com.oxahex.accountapi.type.TransactionType.CANCEL;
+import static com.oxahex.accountapi.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StatementServiceTest {
+    private static final LocalDateTime TRANSACTED_AT = LocalDateTime.of(2023, 9, 1, 12, 0);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private StatementService statementService;
+
+    @Test
+    @DisplayName("명세서 내보내기 - CSV, 쓴 거래는 영속성 컨텍스트에서 뗌, Stream 을 닫음")
+    void writeAccountStatement_Csv() throws IOException {
+        // given
+        Transaction use = transaction("t1", USE, 1000L, 9000L);
+        Transaction cancel = transaction("t2", CANCEL, 1000L, 10000L);
+        AtomicBoolean closed = new AtomicBoolean();
+        given(transactionRepository.streamStatementByAccountNumber(anyString(), any(), any()))
+                .willReturn(Stream.of(use, cancel).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = statementService.writeAccountStatement("1000000012",
+                new Statement.Request(null, null, StatementFormat.CSV), out);
+
+        // then
+        assertEquals(2, count);
+        assertEquals(Statement.Line.CSV_HEADER + "\n"
+                        + "1000000012,t1,USE,S,1000,9000,2023-09-01T12:00\n"
+                        + "1000000012,t2,CANCEL,S,1000,10000,2023-09-01T12:00\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(entityManager).detach(use);
+        verify(entityManager).detach(cancel);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("명세서 내보내기 - NDJSON, 한 줄에 거래 하나")
+    void writeUserStatement_Ndjson() throws IOException {
+        // given
+        given(transactionRepository.streamStatementByUserId(anyLong(), any(), any()))
+                .willReturn(Stream.of(transaction("t1", USE, 1000L, 9000L), transaction("t2", USE, 500L, 8500L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        statementService.writeUserStatement(1L, new Statement.Request(), out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        Statement.Line second = objectMapper.readValue(lines[1], Statement.Line.class);
+        assertEquals("t2", second.getTransactionId());
+        assertEquals(8500L, second.getBalanceSnapShot());
+        assertEquals(TRANSACTED_AT, second.getTransactedAt());
+    }
+
+    @Test
+    @DisplayName("명세서 내보내기 실패 - 해당 계좌 없음")
+    void validateAccount_AccountNotFound() {
+        // given
+        given(accountRepository.existsByAccountNumber(anyString()))
+                .willReturn(false);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> statementService.validateAccount("1000000012", new Statement.Request()));
+
+        // then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("명세서 내보내기 실패 - 시작 시각이 끝 시각보다 늦음")
+    void validateAccount_InvalidRange() {
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> statementService.validateAccount("1000000012",
+                        new Statement.Request(TRANSACTED_AT, TRANSACTED_AT.minusDays(1), StatementFormat.CSV)));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    private static Transaction transaction(String transactionId, TransactionType type,
+                                           Long amount, Long balanceSnapShot) {
+        return Transaction.builder()
+                .account(Account.builder().accountNumber("1000000012").build())
+                .transactionId(transactionId)
+                .transactionType(type)
+                .transactionResultType(S)
+                .amount(amount)
+                .balanceSnapShot(balanceSnapShot)
+                .transactedAt(TRANSACTED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.oxahex.accountapi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionIdGeneratorTest {
+    private final TransactionIdGenerator generator = new TransactionIdGenerator(7);
+
+    @Test
+    @DisplayName("거래 ID 발급 - 32자리 16진수, 노드 포함")
+    void generate() {
+        // when
+        String transactionId = generator.generate();
+
+        // then: 시각(12자리) + 노드(4자리) + 순번(16자리)
+        assertTrue(transactionId.matches("[0-9a-f]{32}"));
+        assertEquals("0007", transactionId.substring(12, 16));
+    }
+
+    @Test
+    @DisplayName("거래 ID 발급 - 발급 시각 순서대로 정렬")
+    void generate_TimeOrdered() throws InterruptedException {
+        // given
+        String first = generator.generate();
+        Thread.sleep(2);
+
+        // when
+        String second = generator.generate();
+
+        // then
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    @DisplayName("거래 ID 발급 - 여러 스레드에서 동시에 발급해도 중복 없음")
+    void generate_Concurrent() {
+        // given
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<String> ids = new ArrayList<>();
+                for (int j = 0; j < 10000; j++) {
+                    ids.add(generator.generate());
+                }
+                return ids;
+            }));
+        }
+
+        // when
+        Set<String> ids = new HashSet<>();
+        futures.forEach(future -> ids.addAll(future.join()));
+
+        // then
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    @DisplayName("거래 ID 발급기 생성 - 실패(노드 범위 초과)")
+    void invalidNode() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionIdGenerator(TransactionIdGenerator.MAX_NODE + 1));
+    }
+}
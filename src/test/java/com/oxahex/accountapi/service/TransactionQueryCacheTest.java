@@ -0,0 +1,89 @@
+package com.oxahex.accountapi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.oxahex.accountapi.dto.TransactionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.oxahex.accountapi.type.TransactionResultType.S;
+import static com.oxahex.accountapi.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionQueryCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionQueryCache cache = new TransactionQueryCache(objectMapper, meterRegistry, true, 2);
+
+    @Test
+    @DisplayName("거래 조회 캐시 - 첫 조회만 읽고, 이후는 캐시에서 응답")
+    void getOrLoad() throws IOException {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        byte[] first = cache.getOrLoad("transactionId", () -> {
+            loads.incrementAndGet();
+            return transaction("transactionId");
+        });
+        byte[] second = cache.getOrLoad("transactionId", () -> {
+            loads.incrementAndGet();
+            return transaction("transactionId");
+        });
+
+        // then: QueryTransactionResponse 형식
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        JsonNode response = objectMapper.readTree(second);
+        assertEquals("1234567890", response.get("accountNumber").asText());
+        assertEquals("S", response.get("transactionResult").asText());
+        assertEquals(12345L, response.get("amount").asLong());
+    }
+
+    @Test
+    @DisplayName("거래 조회 캐시 - 저장한 거래는 조회 없이 응답(트랜잭션 밖이면 바로 담음)")
+    void putAfterCommit() {
+        // given
+        cache.putAfterCommit(transaction("transactionId"));
+
+        // when
+        byte[] response = cache.getOrLoad("transactionId", () -> fail("should not load"));
+
+        // then
+        assertNotNull(response);
+    }
+
+    @Test
+    @DisplayName("거래 조회 캐시 - 크기를 넘으면 가장 오래 안 쓴 항목부터 버림")
+    void evictBySize() {
+        // given: 최대 2개
+        cache.putAfterCommit(transaction("t1"));
+        cache.putAfterCommit(transaction("t2"));
+
+        // when
+        cache.putAfterCommit(transaction("t3"));
+
+        // then
+        assertEquals(1.0, meterRegistry.get("account.cache.evictions")
+                .tag("cache", "transactions").tag("cause", "size").counter().count());
+        assertEquals(2.0, meterRegistry.get("account.cache.size")
+                .tag("cache", "transactions").gauge().value());
+    }
+
+    private static TransactionDto transaction(String transactionId) {
+        return TransactionDto.builder()
+                .accountNumber("1234567890")
+                .transactionType(USE)
+                .transactionResultType(S)
+                .transactionId(transactionId)
+                .amount(12345L)
+                .transactedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -3,20 +3,28 @@ package com.oxahex.accountapi.service;
 import com.oxahex.accountapi.domain.Account;
 import com.oxahex.accountapi.domain.AccountUser;
 import com.oxahex.accountapi.domain.Transaction;
+import com.oxahex.accountapi.dto.FailedTransaction;
 import com.oxahex.accountapi.dto.TransactionDto;
+import com.oxahex.accountapi.dto.TransactionHistory;
+import com.oxahex.accountapi.dto.UseBalance;
 import com.oxahex.accountapi.exception.AccountException;
 import com.oxahex.accountapi.repository.AccountRepository;
 import com.oxahex.accountapi.repository.AccountUserRepository;
 import com.oxahex.accountapi.repository.TransactionRepository;
+import com.oxahex.accountapi.type.ConcurrencyMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static com.oxahex.accountapi.type.AccountStatus.*;
@@ -24,9 +32,11 @@ import static com.oxahex.accountapi.type.ErrorCode.*;
 import static com.oxahex.accountapi.type.TransactionResultType.*;
 import static com.oxahex.accountapi.type.TransactionType.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +54,19 @@ class TransactionServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Spy
+    private TransactionIdGenerator transactionIdGenerator = new TransactionIdGenerator(0);
+
+    @Mock
+    private AccountCache accountCache;
+
+    @Mock
+    private TransactionQueryCache transactionQueryCache;
+
+    // trace 가 없으므로 측정 없이 그대로 실행
+    @Spy
+    private StageMetrics stageMetrics = new StageMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -199,44 +222,360 @@ class TransactionServiceTest {
     }
 
     @Test
-    @DisplayName("잔액 사용 실패 트랜잭션 저장 - 성공")
-    void saveFailedUseTransaction() {
-        // given: 유저와, 유저의 계좌(10000) 확인
-        AccountUser user = AccountUser.builder()
-                .id(1L).name("oxahex").build();
+    @DisplayName("잔액 사용(atomic 모드) - 성공")
+    void useBalance_Atomic() {
+        // given: atomic 모드, 조건부 UPDATE 1건 성공 후 차감된 계좌(9000)
+        ReflectionTestUtils.setField(transactionService, "concurrencyMode", ConcurrencyMode.ATOMIC);
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
         Account account = Account.builder()
                 .accountUser(user)
                 .accountStatus(IN_USE)
-                .balance(ACCOUNT_BALANCE)
+                .balance(ACCOUNT_BALANCE - USE_AMOUNT)
                 .accountNumber("1234567890").build();
+        given(accountRepository.debitBalance(eq("1234567890"), eq(1L), eq(USE_AMOUNT), any()))
+                .willReturn(1);
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
-
-        // given: 거래 결과가 저장됨
         given(transactionRepository.save(any()))
-                .willReturn(Transaction.builder()
-                        .account(account)
-                        .transactionType(USE)
-                        .transactionResultType(S)
-                        .transactionId("transactionId")
-                        .transactedAt(LocalDateTime.now())
-                        .amount(USE_AMOUNT)
-                        .balanceSnapShot(ACCOUNT_BALANCE).build()
-                );
+                .willAnswer(invocation -> invocation.getArgument(0));
 
         ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
 
-        // when: 1000원 사용 시도 했으나 실패
-        transactionService.saveFailedUseTransaction("1234567890", 1000L);
+        // when: 1000원 사용
+        TransactionDto transactionDto = transactionService.useBalance(
+                1L, "1234567890", USE_AMOUNT
+        );
 
-        // then
+        // then: 유저 조회 없이 처리, 거래 내역에 차감 후 잔액(9000)
+        verify(accountUserRepository, never()).findById(anyLong());
         verify(transactionRepository, times(1)).save(captor.capture());
-        // then: 거래 금액 == 1000
-        assertEquals(USE_AMOUNT, captor.getValue().getAmount());
-        // then: 계좌에 10000원 남음(실패로 차감되지 않음)
-        assertEquals(ACCOUNT_BALANCE, captor.getValue().getBalanceSnapShot());
-        // then: 거래 결과 == 성공
-        assertEquals(F, captor.getValue().getTransactionResultType());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT, captor.getValue().getBalanceSnapShot());
+        assertEquals(S, transactionDto.getTransactionResultType());
+        assertEquals(USE, transactionDto.getTransactionType());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패(atomic 모드) - 거래 금액이 잔액보다 큼")
+    void useBalance_Atomic_AmountExceedBalance() {
+        // given: atomic 모드, 갱신된 행 없음, 계좌 잔액(100)
+        ReflectionTestUtils.setField(transactionService, "concurrencyMode", ConcurrencyMode.ATOMIC);
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        given(accountRepository.debitBalance(anyString(), anyLong(), anyLong(), any()))
+                .willReturn(0);
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder()
+                        .accountUser(user)
+                        .accountStatus(IN_USE)
+                        .balance(100L)
+                        .accountNumber("1234567890").build()));
+
+        // when: 잔액보다 큰 금액 사용 시도
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(1L, "1234567890", USE_AMOUNT));
+
+        // then: Exception AMOUNT_EXCEED_BALANCE, 거래 저장 없음
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패(atomic 모드) - 유저와 계좌 소유주가 다름")
+    void useBalance_Atomic_UserUnMatch() {
+        // given: atomic 모드, 갱신된 행 없음, 계좌의 소유주가 userB
+        ReflectionTestUtils.setField(transactionService, "concurrencyMode", ConcurrencyMode.ATOMIC);
+        AccountUser userA = AccountUser.builder().id(1L).name("userA").build();
+        AccountUser userB = AccountUser.builder().id(2L).name("userB").build();
+        given(accountRepository.debitBalance(anyString(), anyLong(), anyLong(), any()))
+                .willReturn(0);
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(userA));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder()
+                        .accountUser(userB)
+                        .accountStatus(IN_USE)
+                        .balance(ACCOUNT_BALANCE)
+                        .accountNumber("1234567890").build()));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(1L, "1234567890", USE_AMOUNT));
+
+        // then: Exception USER_ACCOUNT_UN_MATCH
+        assertEquals(USER_ACCOUNT_UN_MATCH, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패(atomic 모드) - 이미 해지된 계좌")
+    void useBalance_Atomic_AlreadyUnRegistered() {
+        // given: atomic 모드, 갱신된 행 없음, 해지된 계좌
+        ReflectionTestUtils.setField(transactionService, "concurrencyMode", ConcurrencyMode.ATOMIC);
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        given(accountRepository.debitBalance(anyString(), anyLong(), anyLong(), any()))
+                .willReturn(0);
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder()
+                        .accountUser(user)
+                        .accountStatus(UNREGISTERED)
+                        .balance(ACCOUNT_BALANCE)
+                        .accountNumber("1234567890").build()));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(1L, "1234567890", USE_AMOUNT));
+
+        // then: Exception ACCOUNT_ALREADY_UNREGISTERED
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 배치 - 성공(같은 계좌는 요청 순서대로 차감)")
+    void useBalanceBatch() {
+        // given: 유저와, 유저의 계좌 2개(10000)
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        Account account1 = Account.builder()
+                .accountUser(user).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1000000001").build();
+        Account account2 = Account.builder()
+                .accountUser(user).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1000000002").build();
+        given(accountUserRepository.findAllById(any()))
+                .willReturn(List.of(user));
+        given(accountRepository.findByAccountNumberIn(any()))
+                .willReturn(List.of(account1, account2));
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when: 계좌1 에서 2번, 계좌2 에서 1번 사용
+        List<TransactionDto> results = transactionService.useBalanceBatch(List.of(
+                new UseBalance.Request(1L, "1000000001", USE_AMOUNT),
+                new UseBalance.Request(1L, "1000000002", USE_AMOUNT),
+                new UseBalance.Request(1L, "1000000001", USE_AMOUNT)
+        ));
+
+        // then: 조회는 한 번씩, 거래 내역은 한 번에 저장
+        verify(accountRepository, times(1)).findByAccountNumberIn(any());
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        verify(transactionRepository, never()).save(any());
+        assertEquals(3, captor.getValue().size());
+
+        // then: 같은 계좌는 순서대로 잔액이 줄어듦
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT, captor.getValue().get(0).getBalanceSnapShot());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT * 2, captor.getValue().get(2).getBalanceSnapShot());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT * 2, account1.getBalance());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT, account2.getBalance());
+
+        // then: 결과는 요청 순서대로
+        assertEquals(3, results.size());
+        assertEquals("1000000002", results.get(1).getAccountNumber());
+        results.forEach(result -> {
+            assertEquals(S, result.getTransactionResultType());
+            assertNull(result.getErrorCode());
+        });
+    }
+
+    @Test
+    @DisplayName("잔액 사용 배치 - 실패한 항목만 실패 처리")
+    void useBalanceBatch_PartialFailure() {
+        // given: 유저의 계좌(10000)와 다른 유저의 계좌
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        AccountUser other = AccountUser.builder().id(2L).name("other").build();
+        Account account = Account.builder()
+                .accountUser(user).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1000000001").build();
+        Account otherAccount = Account.builder()
+                .accountUser(other).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1000000002").build();
+        given(accountUserRepository.findAllById(any()))
+                .willReturn(List.of(user));
+        given(accountRepository.findByAccountNumberIn(any()))
+                .willReturn(List.of(account, otherAccount));
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when: 잔액 초과, 소유주 불일치, 없는 계좌, 정상 사용
+        List<TransactionDto> results = transactionService.useBalanceBatch(List.of(
+                new UseBalance.Request(1L, "1000000001", ACCOUNT_BALANCE + 1),
+                new UseBalance.Request(1L, "1000000002", USE_AMOUNT),
+                new UseBalance.Request(1L, "1000000009", USE_AMOUNT),
+                new UseBalance.Request(1L, "1000000001", USE_AMOUNT)
+        ));
+
+        // then: 항목별 실패 원인
+        assertEquals(AMOUNT_EXCEED_BALANCE, results.get(0).getErrorCode());
+        assertEquals(USER_ACCOUNT_UN_MATCH, results.get(1).getErrorCode());
+        assertEquals(ACCOUNT_NOT_FOUND, results.get(2).getErrorCode());
+        assertEquals(F, results.get(2).getTransactionResultType());
+        assertNull(results.get(2).getTransactionId());
+        assertEquals(S, results.get(3).getTransactionResultType());
+
+        // then: 없는 계좌를 제외한 3건 저장, 실패 건은 잔액 변화 없음
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(F, captor.getValue().get(0).getTransactionResultType());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT, account.getBalance());
+        assertEquals(ACCOUNT_BALANCE, otherAccount.getBalance());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 - 성공(출금, 입금 거래 내역을 같은 거래 시각으로 저장)")
+    void transferBalance() {
+        // given: 출금 계좌(유저 1, 10000), 다른 유저의 입금 계좌(10000)
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        AccountUser other = AccountUser.builder().id(2L).name("other").build();
+        Account from = Account.builder()
+                .id(1L)
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE)
+                .accountNumber("1234567891").build();
+        Account to = Account.builder()
+                .id(2L)
+                .accountUser(other)
+                .accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE)
+                .accountNumber("1234567890").build();
+        given(accountUserRepository.findById(1L))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1234567891"))
+                .willReturn(Optional.of(from));
+        given(accountRepository.findByAccountNumber("1234567890"))
+                .willReturn(Optional.of(to));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when: 1000원 이체
+        List<TransactionDto> transactions = transactionService.transferBalance(
+                1L, "1234567891", "1234567890", USE_AMOUNT);
+
+        // then: 출금 계좌 9000, 입금 계좌 11000
+        verify(transactionRepository, times(2)).save(captor.capture());
+        Transaction withdrawal = captor.getAllValues().get(0);
+        Transaction deposit = captor.getAllValues().get(1);
+        assertEquals(TRANSFER_OUT, withdrawal.getTransactionType());
+        assertEquals(ACCOUNT_BALANCE - USE_AMOUNT, withdrawal.getBalanceSnapShot());
+        assertEquals(TRANSFER_IN, deposit.getTransactionType());
+        assertEquals(ACCOUNT_BALANCE + USE_AMOUNT, deposit.getBalanceSnapShot());
+        assertEquals(withdrawal.getTransactedAt(), deposit.getTransactedAt());
+
+        // then: 출금 거래, 입금 거래 순서로 반환, 두 계좌 캐시 무효화
+        assertEquals("1234567891", transactions.get(0).getAccountNumber());
+        assertEquals("1234567890", transactions.get(1).getAccountNumber());
+        verify(accountCache).evictAccount("1234567891");
+        verify(accountCache).evictAccount("1234567890");
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 같은 계좌로 이체")
+    void transferBalance_SameAccount() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.transferBalance(1L, "1234567890", "1234567890", USE_AMOUNT));
+
+        // then: 조회 없이 실패
+        assertEquals(TRANSFER_TO_SAME_ACCOUNT, exception.getErrorCode());
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 이체 금액이 출금 계좌 잔액보다 큼")
+    void transferBalance_AmountExceedBalance() {
+        // given: 출금 계좌 잔액(100)
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        Account from = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(100L)
+                .accountNumber("1234567890").build();
+        Account to = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE)
+                .accountNumber("1234567891").build();
+        given(accountUserRepository.findById(1L))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1234567890"))
+                .willReturn(Optional.of(from));
+        given(accountRepository.findByAccountNumber("1234567891"))
+                .willReturn(Optional.of(to));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.transferBalance(1L, "1234567890", "1234567891", USE_AMOUNT));
+
+        // then: 두 계좌 모두 그대로, 거래 내역 저장 없음
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        assertEquals(100L, from.getBalance());
+        assertEquals(ACCOUNT_BALANCE, to.getBalance());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패(atomic 모드) - 입금 계좌를 먼저 갱신하는 순서여도 출금 계좌 오류를 먼저 반환")
+    void transferBalance_Atomic_ReversedOrder() {
+        // given: atomic 모드, 출금 계좌 번호 > 입금 계좌 번호, 출금 계좌는 다른 유저 소유, 입금 계좌는 해지 상태
+        ReflectionTestUtils.setField(transactionService, "concurrencyMode", ConcurrencyMode.ATOMIC);
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        AccountUser other = AccountUser.builder().id(2L).name("other").build();
+        Account from = Account.builder()
+                .accountUser(other).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1234567891").build();
+        Account to = Account.builder()
+                .accountUser(user).accountStatus(UNREGISTERED)
+                .balance(ACCOUNT_BALANCE).accountNumber("1234567890").build();
+        given(accountUserRepository.findById(1L))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1234567891"))
+                .willReturn(Optional.of(from));
+        given(accountRepository.findByAccountNumber("1234567890"))
+                .willReturn(Optional.of(to));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.transferBalance(1L, "1234567891", "1234567890", USE_AMOUNT));
+
+        // then: 계좌 순서와 관계없이 소유주 불일치, 어느 계좌도 갱신하지 않음
+        assertEquals(USER_ACCOUNT_UN_MATCH, exception.getErrorCode());
+        verify(accountRepository, never()).creditBalance(anyLong(), anyLong(), any());
+        verify(accountRepository, never()).debitBalance(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("실패 거래 일괄 저장 - 성공(없는 계좌는 건너뜀)")
+    void saveFailedTransactions() {
+        // given: 계좌(10000) 하나
+        AccountUser user = AccountUser.builder().id(1L).name("oxahex").build();
+        Account account = Account.builder()
+                .accountUser(user).accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE).accountNumber("1000000001").build();
+        given(accountRepository.findByAccountNumberIn(any()))
+                .willReturn(List.of(account));
+        LocalDateTime failedAt = LocalDateTime.now().minusSeconds(10);
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when: 사용 실패, 취소 실패, 없는 계좌의 사용 실패
+        transactionService.saveFailedTransactions(List.of(
+                new FailedTransaction(USE, "1000000001", USE_AMOUNT, failedAt),
+                new FailedTransaction(CANCEL, "1000000001", CANCEL_AMOUNT, failedAt),
+                new FailedTransaction(USE, "1000000009", USE_AMOUNT, failedAt)
+        ));
+
+        // then: 2건을 한 번에 저장, 실패 시각과 잔액 그대로
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        captor.getValue().forEach(transaction -> {
+            assertEquals(F, transaction.getTransactionResultType());
+            assertEquals(failedAt, transaction.getTransactedAt());
+            assertEquals(ACCOUNT_BALANCE, transaction.getBalanceSnapShot());
+        });
+        assertEquals(CANCEL, captor.getValue().get(1).getTransactionType());
     }
 
     @Test
@@ -369,6 +708,41 @@ class TransactionServiceTest {
         assertEquals(TRANSACTION_ACCOUNT_UN_MATCH, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("잔액 사용 취소 실패 - 이체 거래는 취소할 수 없음")
+    void cancelBalance_TransactionNotCancelable() {
+        // given: 계좌의 이체 출금 거래
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(IN_USE)
+                .balance(ACCOUNT_BALANCE)
+                .accountNumber("1234567890").build();
+        Transaction transaction = Transaction.builder()
+                .account(account)
+                .transactionType(TRANSFER_OUT)
+                .transactionResultType(S)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now())
+                .amount(CANCEL_AMOUNT)
+                .balanceSnapShot(ACCOUNT_BALANCE)
+                .build();
+
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.of(transaction));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance(
+                        "transactionId", "1234567890", CANCEL_AMOUNT)
+        );
+
+        // then: Exception TRANSACTION_NOT_CANCELABLE, 잔액 그대로
+        assertEquals(TRANSACTION_NOT_CANCELABLE, exception.getErrorCode());
+        assertEquals(ACCOUNT_BALANCE, account.getBalance());
+    }
+
     @Test
     @DisplayName("잔액 사용 취소 실패 - 거래 금액과 취소 금액이 다름")
     void cancelBalance_CancelMustFully() {
@@ -465,7 +839,7 @@ class TransactionServiceTest {
                 .balanceSnapShot(ACCOUNT_BALANCE)
                 .build();
 
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findWithAccountByTransactionId(anyString()))
                 .willReturn(Optional.of(transaction));
 
         // when
@@ -482,7 +856,7 @@ class TransactionServiceTest {
     @DisplayName("거래 조회 실패 - 해당 거래 없음")
     void queryTransaction_TransactionNotFound() {
         // given: 거래가 없음
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findWithAccountByTransactionId(anyString()))
                 .willReturn(Optional.empty());
 
         // when: 기존 거래가 없는데 잔액 사용 취소 시도
@@ -493,4 +867,81 @@ class TransactionServiceTest {
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("계좌 거래 내역 조회 - 한 건 더 있으면 다음 페이지 커서를 줌")
+    void getTransactionHistory() {
+        // given: size 2 요청에 3건(size + 1)이 조회됨
+        LocalDateTime now = LocalDateTime.of(2023, 9, 1, 12, 0);
+        given(transactionRepository.findHistory(anyString(), any(), anyLong(), any(), any(), any(), any()))
+                .willReturn(List.of(historyItem(3L, now), historyItem(2L, now), historyItem(1L, now.minusDays(1))));
+
+        // when
+        TransactionHistory.Response response = transactionService.getTransactionHistory("1000000012",
+                new TransactionHistory.Request(null, null, USE, S, null, 2));
+
+        // then: 2건만 주고, 커서는 마지막 건(2, now)
+        assertEquals(2, response.getTransactions().size());
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> beforeId = ArgumentCaptor.forClass(Long.class);
+        TransactionHistory.Response next = transactionService.getTransactionHistory("1000000012",
+                new TransactionHistory.Request(null, null, USE, S, response.getNextCursor(), 2));
+        verify(transactionRepository, times(2)).findHistory(eq("1000000012"), before.capture(), beforeId.capture(),
+                isNull(), eq(USE), eq(S), any());
+        assertEquals(Long.MIN_VALUE, beforeId.getAllValues().get(0));
+        assertEquals(now, before.getAllValues().get(1));
+        assertEquals(2L, beforeId.getAllValues().get(1));
+        assertEquals(2, next.getTransactions().size());
+        verify(accountRepository, never()).existsByAccountNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 - 마지막 페이지면 커서 없음")
+    void getTransactionHistory_LastPage() {
+        // given
+        given(transactionRepository.findHistory(anyString(), any(), anyLong(), any(), any(), any(), any()))
+                .willReturn(List.of(historyItem(1L, LocalDateTime.now())));
+
+        // when
+        TransactionHistory.Response response = transactionService.getTransactionHistory("1000000012",
+                new TransactionHistory.Request());
+
+        // then
+        assertEquals(1, response.getTransactions().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 실패 - 해당 계좌 없음")
+    void getTransactionHistory_AccountNotFound() {
+        // given: 조회 결과가 없고 계좌도 없음
+        given(transactionRepository.findHistory(anyString(), any(), anyLong(), any(), any(), any(), any()))
+                .willReturn(List.of());
+        given(accountRepository.existsByAccountNumber(anyString()))
+                .willReturn(false);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.getTransactionHistory("1000000012", new TransactionHistory.Request()));
+
+        // then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 실패 - 잘못된 커서")
+    void getTransactionHistory_InvalidCursor() {
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.getTransactionHistory("1000000012",
+                        new TransactionHistory.Request(null, null, null, null, "invalid", 20)));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+        verify(transactionRepository, never())
+                .findHistory(anyString(), any(), anyLong(), any(), any(), any(), any());
+    }
+
+    private static TransactionHistory.Item historyItem(Long id, LocalDateTime transactedAt) {
+        return new TransactionHistory.Item(id, "transactionId" + id, USE, S, USE_AMOUNT, ACCOUNT_BALANCE, transactedAt);
+    }
+}